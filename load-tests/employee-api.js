@@ -0,0 +1,145 @@
+// k6 load-test scenarios for the /employees API.
+//
+//   k6 run load-tests/employee-api.js                      # reads, writes and mixed, one after another
+//   k6 run -e SCENARIO=reads load-tests/employee-api.js    # a single scenario
+//
+// Start the service with generated data first, e.g.
+//   ./mvnw spring-boot:run -Dspring-boot.run.profiles=perf \
+//       -Dspring-boot.run.arguments=--employee.data.generate-count=100000
+//
+// Environment: BASE_URL (default http://localhost:8080), EMPLOYEES (ids to read, default 100000),
+// RATE (requests per second per scenario, default 200), DURATION (per scenario, default 1m).
+// Each scenario has its own latency budget; k6 exits non-zero when a budget is missed.
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const EMPLOYEES = parseInt(__ENV.EMPLOYEES || '100000', 10);
+const RATE = parseInt(__ENV.RATE || '200', 10);
+const DURATION = __ENV.DURATION || '1m';
+const ONLY = __ENV.SCENARIO;
+
+const STATUSES = ['ACTIVE', 'BENCH', 'RESIGNED'];
+const ROLES = ['Software Engineer', 'Senior Developer', 'QA Engineer', 'DevOps Engineer', 'Data Engineer'];
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+const BUDGETS = {
+    reads: ['p(95)<50', 'p(99)<150'],
+    writes: ['p(95)<100', 'p(99)<250'],
+    mixed: ['p(95)<75', 'p(99)<200'],
+};
+
+function scenario(exec, order) {
+    return {
+        executor: 'constant-arrival-rate',
+        exec,
+        rate: RATE,
+        timeUnit: '1s',
+        duration: DURATION,
+        preAllocatedVUs: 20,
+        maxVUs: 200,
+        startTime: ONLY ? '0s' : `${order * durationSeconds(DURATION)}s`,
+    };
+}
+
+function durationSeconds(duration) {
+    const match = /^(\d+)(ms|s|m|h)$/.exec(duration);
+    const factor = { ms: 0.001, s: 1, m: 60, h: 3600 }[match[2]];
+    return Math.ceil(parseInt(match[1], 10) * factor) + 5;
+}
+
+const ALL = { reads: scenario('reads', 0), writes: scenario('writes', 1), mixed: scenario('mixed', 2) };
+const SELECTED = ONLY ? { [ONLY]: ALL[ONLY] } : ALL;
+
+const thresholds = { http_req_failed: ['rate<0.01'] };
+Object.keys(SELECTED).forEach((name) => {
+    thresholds[`http_req_duration{scenario:${name}}`] = BUDGETS[name];
+});
+
+export const options = { scenarios: SELECTED, thresholds };
+
+function randomInt(min, max) {
+    return Math.floor(Math.random() * (max - min + 1)) + min;
+}
+
+function pick(values) {
+    return values[randomInt(0, values.length - 1)];
+}
+
+function newEmployee() {
+    const key = `${__VU}-${__ITER}-${Date.now()}`;
+    return {
+        employeeId: `LT-${key}`,
+        firstName: 'Load',
+        lastName: 'Test',
+        email: `load.${key}@loadtest.local`,
+        role: pick(ROLES),
+        status: pick(STATUSES),
+        primarySkill: 'Java',
+        secondarySkill: 'Spring Boot',
+    };
+}
+
+function readOne() {
+    const res = http.get(`${BASE_URL}/employees/${randomInt(1, EMPLOYEES)}`, { tags: { name: 'GET /employees/{id}' } });
+    check(res, { 'read 200/404': (r) => r.status === 200 || r.status === 404 });
+}
+
+function readByRole() {
+    const res = http.get(`${BASE_URL}/employees/role/${encodeURIComponent(pick(ROLES))}`,
+        { tags: { name: 'GET /employees/role/{role}' } });
+    check(res, { 'role 200': (r) => r.status === 200 });
+}
+
+function createOne() {
+    const res = http.post(`${BASE_URL}/employees`, JSON.stringify(newEmployee()),
+        Object.assign({ tags: { name: 'POST /employees' } }, JSON_HEADERS));
+    check(res, { 'create 201': (r) => r.status === 201 });
+    return res.status === 201 ? res.json() : null;
+}
+
+function updateOne(employee) {
+    employee.role = pick(ROLES);
+    const res = http.put(`${BASE_URL}/employees/${employee.id}`, JSON.stringify(employee),
+        Object.assign({ tags: { name: 'PUT /employees/{id}' } }, JSON_HEADERS));
+    check(res, { 'update 200': (r) => r.status === 200 });
+}
+
+function transitionStatus() {
+    const ids = [];
+    for (let i = 0; i < 20; i++) {
+        ids.push(randomInt(1, EMPLOYEES));
+    }
+    const res = http.patch(`${BASE_URL}/employees/status`, JSON.stringify({ ids, status: pick(['ACTIVE', 'BENCH']) }),
+        Object.assign({ tags: { name: 'PATCH /employees/status' } }, JSON_HEADERS));
+    check(res, { 'transition 200/202': (r) => r.status === 200 || r.status === 202 });
+}
+
+export function reads() {
+    if (Math.random() < 0.9) {
+        readOne();
+    } else {
+        readByRole();
+    }
+}
+
+export function writes() {
+    const roll = Math.random();
+    if (roll < 0.5) {
+        const created = createOne();
+        if (created) {
+            updateOne(created);
+        }
+    } else {
+        transitionStatus();
+    }
+}
+
+export function mixed() {
+    if (Math.random() < 0.8) {
+        reads();
+    } else {
+        writes();
+    }
+}
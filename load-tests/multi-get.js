@@ -0,0 +1,63 @@
+// k6 benchmark: resolving a list of employees with N x GET /employees/{id} versus one POST /employees/_mget.
+//
+//   k6 run load-tests/multi-get.js
+//   k6 run -e BATCH=500 -e ITERATIONS=50 load-tests/multi-get.js
+//
+// Both scenarios resolve the same number of random ids per iteration, one after the other (each
+// gets up to MAX_DURATION), and report the time to resolve a whole batch as lookup_loop_ms and
+// lookup_mget_ms.
+//
+// Environment: BASE_URL (default http://localhost:8080), EMPLOYEES (id range, default 100000),
+// BATCH (ids per lookup, default 100), ITERATIONS (lookups per scenario, default 200), VUS (default 4),
+// MAX_DURATION (per scenario, default 2m).
+
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const EMPLOYEES = parseInt(__ENV.EMPLOYEES || '100000', 10);
+const BATCH = parseInt(__ENV.BATCH || '100', 10);
+const ITERATIONS = parseInt(__ENV.ITERATIONS || '200', 10);
+const VUS = parseInt(__ENV.VUS || '4', 10);
+const MAX_DURATION = __ENV.MAX_DURATION || '2m';
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+const loopDuration = new Trend('lookup_loop_ms', true);
+const mgetDuration = new Trend('lookup_mget_ms', true);
+
+export const options = {
+    scenarios: {
+        loop: { executor: 'shared-iterations', exec: 'loop', vus: VUS, iterations: ITERATIONS, maxDuration: MAX_DURATION },
+        mget: {
+            executor: 'shared-iterations', exec: 'mget', vus: VUS, iterations: ITERATIONS, maxDuration: MAX_DURATION,
+            startTime: MAX_DURATION,
+        },
+    },
+    thresholds: { http_req_failed: ['rate<0.01'] },
+};
+
+function randomIds() {
+    const ids = [];
+    for (let i = 0; i < BATCH; i++) {
+        ids.push(Math.floor(Math.random() * EMPLOYEES) + 1);
+    }
+    return ids;
+}
+
+export function loop() {
+    const start = Date.now();
+    for (const id of randomIds()) {
+        const res = http.get(`${BASE_URL}/employees/${id}`, { tags: { name: 'GET /employees/{id}' } });
+        check(res, { 'read 200/404': (r) => r.status === 200 || r.status === 404 });
+    }
+    loopDuration.add(Date.now() - start);
+}
+
+export function mget() {
+    const start = Date.now();
+    const res = http.post(`${BASE_URL}/employees/_mget`, JSON.stringify({ ids: randomIds() }),
+        Object.assign({ tags: { name: 'POST /employees/_mget' } }, JSON_HEADERS));
+    check(res, { 'mget 200': (r) => r.status === 200 });
+    mgetDuration.add(Date.now() - start);
+}
@@ -0,0 +1,81 @@
+// k6 benchmark: bench-management status changes with one PUT /employees/{id} per employee versus
+// bulk PATCH /employees/status.
+//
+//   k6 run load-tests/status-transition.js
+//   k6 run -e BATCH=200 -e DURATION=1m load-tests/status-transition.js
+//
+// Both scenarios run for DURATION with the same number of VUs, one after the other, and move BATCH
+// random employees to a random status per iteration. The PUT scenario has to GET each employee
+// first, since PUT replaces the whole record. Compare the transitions_put and transitions_patch
+// rates (employees per second) in the summary; run the service in both write-behind modes
+// (employee.status-write-behind.mode=ASYNC/SYNC) to see what the journal and coalescing buy.
+//
+// Environment: BASE_URL (default http://localhost:8080), EMPLOYEES (id range, default 100000),
+// BATCH (employees per iteration, default 100), VUS (default 8), DURATION (per scenario, default 30s).
+
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter, Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const EMPLOYEES = parseInt(__ENV.EMPLOYEES || '100000', 10);
+const BATCH = parseInt(__ENV.BATCH || '100', 10);
+const VUS = parseInt(__ENV.VUS || '8', 10);
+const DURATION = __ENV.DURATION || '30s';
+const STATUSES = ['ACTIVE', 'BENCH', 'RESIGNED'];
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+const putTransitions = new Counter('transitions_put');
+const patchTransitions = new Counter('transitions_patch');
+const putBatchDuration = new Trend('batch_put_ms', true);
+const patchBatchDuration = new Trend('batch_patch_ms', true);
+
+export const options = {
+    scenarios: {
+        put: { executor: 'constant-vus', exec: 'put', vus: VUS, duration: DURATION },
+        patch: { executor: 'constant-vus', exec: 'patch', vus: VUS, duration: DURATION, startTime: DURATION },
+    },
+    thresholds: { http_req_failed: ['rate<0.01'] },
+};
+
+function randomIds() {
+    const ids = [];
+    for (let i = 0; i < BATCH; i++) {
+        ids.push(Math.floor(Math.random() * EMPLOYEES) + 1);
+    }
+    return ids;
+}
+
+function randomStatus() {
+    return STATUSES[Math.floor(Math.random() * STATUSES.length)];
+}
+
+export function put() {
+    const status = randomStatus();
+    const start = Date.now();
+    for (const id of randomIds()) {
+        const current = http.get(`${BASE_URL}/employees/${id}`, { tags: { name: 'GET /employees/{id}' } });
+        if (current.status !== 200) {
+            continue;
+        }
+        const employee = current.json();
+        employee.status = status;
+        const res = http.put(`${BASE_URL}/employees/${id}`, JSON.stringify(employee),
+            { headers: JSON_HEADERS, tags: { name: 'PUT /employees/{id}' } });
+        if (check(res, { 'put 200': (r) => r.status === 200 })) {
+            putTransitions.add(1);
+        }
+    }
+    putBatchDuration.add(Date.now() - start);
+}
+
+export function patch() {
+    const ids = randomIds();
+    const start = Date.now();
+    const res = http.patch(`${BASE_URL}/employees/status`, JSON.stringify({ ids, status: randomStatus() }),
+        { headers: JSON_HEADERS, tags: { name: 'PATCH /employees/status' } });
+    if (check(res, { 'patch 200/202': (r) => r.status === 200 || r.status === 202 })) {
+        patchTransitions.add(ids.length);
+    }
+    patchBatchDuration.add(Date.now() - start);
+}
@@ -0,0 +1,85 @@
+#!/usr/bin/env bash
+# Compares startup time and resident memory across the three packaging modes:
+#   jvm     - plain executable jar
+#   aot-cds - jar built with -Paot, run with Spring AOT initialization on an AppCDS archive
+#   native  - GraalVM native image built with -Pnative (requires GraalVM 17+ with native-image)
+#
+# Usage: scripts/startup-benchmark.sh [runs] [modes...]
+#   scripts/startup-benchmark.sh 5 jvm aot-cds native
+set -euo pipefail
+
+RUNS=${1:-5}
+shift || true
+MODES=${*:-jvm aot-cds native}
+PORT=${PORT:-18080}
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+WORK="$ROOT/target/startup-benchmark"
+APP_ARGS="--server.port=$PORT --logging.level.com.project.employee_management=INFO --logging.level.org.hibernate.SQL=WARN --spring.jpa.show-sql=false"
+
+mkdir -p "$WORK"
+cd "$ROOT"
+
+build() {
+  case "$1" in
+    jvm)
+      ./mvnw -q -DskipTests package
+      cp target/employee-management-*.jar "$WORK/jvm.jar"
+      ;;
+    aot-cds)
+      ./mvnw -q -DskipTests -Paot package
+      rm -rf "$WORK/aot-cds"
+      java -Djarmode=tools -jar target/employee-management-*.jar extract --destination "$WORK/aot-cds"
+      # Training run: start the context, dump the loaded classes into a CDS archive and exit
+      (cd "$WORK/aot-cds" && java -XX:ArchiveClassesAtExit=app.jsa -Dspring.aot.enabled=true \
+          -Dspring.context.exit=onRefresh -jar employee-management-*.jar $APP_ARGS > training.log 2>&1)
+      ;;
+    native)
+      ./mvnw -q -DskipTests -Pnative native:compile
+      cp target/employee-management "$WORK/native"
+      ;;
+  esac
+}
+
+launch() {
+  case "$1" in
+    jvm) java -jar "$WORK/jvm.jar" $APP_ARGS ;;
+    aot-cds) cd "$WORK/aot-cds" && exec java -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true \
+        -jar employee-management-*.jar $APP_ARGS ;;
+    native) "$WORK/native" $APP_ARGS ;;
+  esac
+}
+
+measure() {
+  local mode=$1 log="$WORK/$1.log"
+  (launch "$mode") > "$log" 2>&1 &
+  local pid=$!
+  until grep -q "Started EmployeeManagementApplication" "$log"; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "$mode failed to start, see $log" >&2
+      exit 1
+    fi
+    sleep 0.05
+  done
+  local startup rss
+  startup=$(grep -o "Started EmployeeManagementApplication in [0-9.]* seconds" "$log" | grep -o "[0-9.]*")
+  # Let the first request path warm up before sampling memory
+  curl -s -o /dev/null "http://localhost:$PORT/employees" || true
+  rss=$(ps -o rss= -p "$(pgrep -P "$pid" || echo "$pid")" | tail -1 | tr -d ' ')
+  kill "$pid" 2>/dev/null || true
+  pkill -P "$pid" 2>/dev/null || true
+  wait "$pid" 2>/dev/null || true
+  echo "$startup $rss"
+}
+
+printf "%-8s %14s %14s\n" "mode" "startup (s)" "RSS (MiB)"
+for mode in $MODES; do
+  build "$mode"
+  total_startup=0
+  total_rss=0
+  for _ in $(seq "$RUNS"); do
+    read -r startup rss < <(measure "$mode")
+    total_startup=$(echo "$total_startup + $startup" | bc -l)
+    total_rss=$((total_rss + rss))
+  done
+  printf "%-8s %14.3f %14.1f\n" "$mode" "$(echo "$total_startup / $RUNS" | bc -l)" "$(echo "$total_rss / $RUNS / 1024" | bc -l)"
+done
@@ -3,8 +3,12 @@ package com.project.employee_management.config;
 import org.modelmapper.ModelMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Configuration
+@EnableScheduling
+@ImportRuntimeHints(NativeHints.class)
 public class AppConfig {
     
     @Bean
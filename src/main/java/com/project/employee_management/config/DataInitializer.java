@@ -3,7 +3,9 @@ package com.project.employee_management.config;
 import com.project.employee_management.entity.Employee;
 import com.project.employee_management.entity.Employee.EmployeeStatus;
 import com.project.employee_management.repository.EmployeeRepository;
+import com.project.employee_management.service.EmployeeHistoryService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -15,8 +17,20 @@ import java.time.LocalDateTime;
 public class DataInitializer {
 
     @Bean
-    CommandLineRunner initDatabase(EmployeeRepository repository) {
+    CommandLineRunner initDatabase(EmployeeRepository repository,
+                                   EmployeeBulkLoader bulkLoader,
+                                   EmployeeHistoryService historyService,
+                                   @Value("${employee.data.generate-count:0}") int generateCount,
+                                   @Value("${employee.data.seed:42}") long seed,
+                                   @Value("${employee.data.batch-size:1000}") int batchSize) {
         return args -> {
+            if (generateCount > 0) {
+                bulkLoader.load(generateCount, seed, batchSize);
+                historyService.recordBaseline();
+                log.info("Generated data loaded successfully! Total employees: {}", repository.count());
+                return;
+            }
+
             log.info("Loading sample employee data...");
 
             Employee emp1 = new Employee();
@@ -74,6 +88,7 @@ public class DataInitializer {
             repository.save(emp3);
             repository.save(emp4);
             repository.save(emp5);
+            historyService.recordBaseline();
 
             log.info("Sample data loaded successfully! Total employees: {}", repository.count());
         };
@@ -0,0 +1,69 @@
+package com.project.employee_management.config;
+
+import com.project.employee_management.entity.Employee;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads generated employees with batched JDBC inserts instead of one
+ * {@code repository.save} (and persistence-context entry) per row.
+ */
+@Component
+@Slf4j
+public class EmployeeBulkLoader {
+
+    private static final String INSERT_SQL = "INSERT INTO employees (employee_id, first_name, last_name, email, role, "
+            + "status, primary_skill, secondary_skill, date_created, date_updated) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EmployeeBulkLoader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional
+    public int load(int count, long seed, int batchSize) {
+        log.info("Generating {} employees with seed {}", count, seed);
+        long start = System.nanoTime();
+        EmployeeDataGenerator generator = new EmployeeDataGenerator(seed, LocalDateTime.now());
+
+        List<Employee> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < count; i++) {
+            batch.add(generator.next());
+            if (batch.size() == batchSize || i == count - 1) {
+                insert(batch);
+                batch.clear();
+            }
+        }
+
+        log.info("Bulk loaded {} employees in {} ms", count, (System.nanoTime() - start) / 1_000_000);
+        return count;
+    }
+
+    private void insert(List<Employee> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, employee) -> {
+            ps.setString(1, employee.getEmployeeId());
+            ps.setString(2, employee.getFirstName());
+            ps.setString(3, employee.getLastName());
+            ps.setString(4, employee.getEmail());
+            ps.setString(5, employee.getRole());
+            ps.setString(6, employee.getStatus().name());
+            ps.setString(7, employee.getPrimarySkill());
+            if (employee.getSecondarySkill() != null) {
+                ps.setString(8, employee.getSecondarySkill());
+            } else {
+                ps.setNull(8, Types.VARCHAR);
+            }
+            ps.setTimestamp(9, Timestamp.valueOf(employee.getDateCreated()));
+            ps.setTimestamp(10, Timestamp.valueOf(employee.getDateUpdated()));
+        });
+    }
+}
@@ -0,0 +1,122 @@
+package com.project.employee_management.config;
+
+import com.project.employee_management.entity.Employee;
+import com.project.employee_management.entity.Employee.EmployeeStatus;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates synthetic employees with realistic role, status and skill distributions.
+ * <p>
+ * The same seed and reference time always produce the same sequence. Employee ids and
+ * emails embed the sequence number, so they stay unique for any count.
+ */
+public class EmployeeDataGenerator {
+
+    private static final String[] FIRST_NAMES = {
+            "Juan", "Maria", "Pedro", "Anna", "Jose", "Carlos", "Sofia", "Miguel", "Isabel", "Rafael",
+            "Camille", "Mark", "Angela", "Paolo", "Patricia", "Daniel", "Kristine", "John", "Bea", "Luis",
+            "Grace", "Michael", "Andrea", "Paul", "Nicole", "Francis", "Joy", "Kevin", "Maricel", "Ryan"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Dela Cruz", "Santos", "Garcia", "Reyes", "Ramos", "Mendoza", "Bautista", "Villanueva", "Castillo", "Torres",
+            "Flores", "Aquino", "Navarro", "Gonzales", "Lopez", "Rivera", "Fernandez", "Cruz", "Morales", "Domingo"
+    };
+
+    private static final List<RoleProfile> ROLES = List.of(
+            new RoleProfile("Software Engineer", 30,
+                    new String[]{"Java", "Python", "C#", "Go", "Kotlin"},
+                    new String[]{"Spring Boot", "Django", ".NET", "Microservices", "SQL"}),
+            new RoleProfile("Senior Developer", 15,
+                    new String[]{"Java", "Python", "C#", "Kotlin"},
+                    new String[]{"Spring Boot", "System Design", "Microservices", "AWS"}),
+            new RoleProfile("Full Stack Developer", 12,
+                    new String[]{"JavaScript", "TypeScript", "Java"},
+                    new String[]{"React", "Angular", "Node.js", "Vue.js"}),
+            new RoleProfile("Frontend Developer", 8,
+                    new String[]{"JavaScript", "TypeScript"},
+                    new String[]{"React", "Angular", "Vue.js", "CSS"}),
+            new RoleProfile("QA Engineer", 10,
+                    new String[]{"Selenium", "Cypress", "Java", "Python"},
+                    new String[]{"TestNG", "JUnit", "Playwright", "Postman"}),
+            new RoleProfile("DevOps Engineer", 8,
+                    new String[]{"Docker", "Terraform", "AWS", "Azure"},
+                    new String[]{"Kubernetes", "Jenkins", "Ansible", "Linux"}),
+            new RoleProfile("Data Engineer", 7,
+                    new String[]{"Python", "Scala", "SQL"},
+                    new String[]{"Spark", "Airflow", "Kafka", "dbt"}),
+            new RoleProfile("Tech Lead", 5,
+                    new String[]{"Java", "Python", "JavaScript"},
+                    new String[]{"System Design", "Spring Boot", "AWS", "Microservices"}),
+            new RoleProfile("Business Analyst", 5,
+                    new String[]{"SQL", "Excel"},
+                    new String[]{"Jira", "Power BI", "Tableau"})
+    );
+
+    private static final int TOTAL_ROLE_WEIGHT = ROLES.stream().mapToInt(RoleProfile::weight).sum();
+    private static final int ACTIVE_PERCENT = 70;
+    private static final int BENCH_PERCENT = 20;
+    private static final int NO_SECONDARY_SKILL_PERCENT = 15;
+    private static final int HISTORY_DAYS = 3 * 365;
+
+    private final Random random;
+    private final LocalDateTime referenceTime;
+    private long sequence;
+
+    public EmployeeDataGenerator(long seed, LocalDateTime referenceTime) {
+        this.random = new Random(seed);
+        this.referenceTime = referenceTime.truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    public Employee next() {
+        long number = ++sequence;
+        String firstName = pick(FIRST_NAMES);
+        String lastName = pick(LAST_NAMES);
+        RoleProfile role = pickRole();
+
+        Employee employee = new Employee();
+        employee.setEmployeeId(String.format("EMP%07d", number));
+        employee.setFirstName(firstName);
+        employee.setLastName(lastName);
+        employee.setEmail((firstName + "." + lastName).toLowerCase().replace(" ", "") + "." + number + "@company.com");
+        employee.setRole(role.name());
+        employee.setStatus(pickStatus());
+        employee.setPrimarySkill(pick(role.primarySkills()));
+        employee.setSecondarySkill(random.nextInt(100) < NO_SECONDARY_SKILL_PERCENT ? null : pick(role.secondarySkills()));
+
+        LocalDateTime created = referenceTime.minusMinutes(random.nextInt(HISTORY_DAYS * 24 * 60));
+        employee.setDateCreated(created);
+        employee.setDateUpdated(created.plusMinutes(random.nextInt((int) ChronoUnit.MINUTES.between(created, referenceTime) + 1)));
+        return employee;
+    }
+
+    private EmployeeStatus pickStatus() {
+        int roll = random.nextInt(100);
+        if (roll < ACTIVE_PERCENT) {
+            return EmployeeStatus.ACTIVE;
+        }
+        return roll < ACTIVE_PERCENT + BENCH_PERCENT ? EmployeeStatus.BENCH : EmployeeStatus.RESIGNED;
+    }
+
+    private RoleProfile pickRole() {
+        int roll = random.nextInt(TOTAL_ROLE_WEIGHT);
+        for (RoleProfile role : ROLES) {
+            roll -= role.weight();
+            if (roll < 0) {
+                return role;
+            }
+        }
+        return ROLES.get(0);
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private record RoleProfile(String name, int weight, String[] primarySkills, String[] secondarySkills) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.project.employee_management.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+
+/**
+ * Builds the extra connection pools used by tenant shards and read replicas.
+ * <p>
+ * Every pool starts from the same {@code spring.datasource.hikari.*} settings as the default
+ * pool (auto-commit, timeouts, minimum idle...), so profiles such as perf apply to shards and
+ * replicas too. Only the connection details and, when given, the pool size are per node.
+ */
+public final class HikariPools {
+
+    static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    private HikariPools() {
+    }
+
+    /**
+     * @param maximumPoolSize per-node pool size, or {@code null} to keep
+     *                        {@code spring.datasource.hikari.maximum-pool-size}
+     */
+    public static HikariDataSource create(Binder binder, String poolName, String url, String username,
+                                          String password, Integer maximumPoolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        binder.bind(HIKARI_PREFIX, Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(poolName);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        if (maximumPoolSize != null) {
+            dataSource.setMaximumPoolSize(maximumPoolSize);
+        }
+        return dataSource;
+    }
+}
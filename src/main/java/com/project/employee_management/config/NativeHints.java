@@ -0,0 +1,37 @@
+package com.project.employee_management.config;
+
+import com.project.employee_management.dto.EmployeeDTO;
+import com.project.employee_management.entity.Employee;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+/**
+ * Reachability hints for the native image.
+ * <p>
+ * Spring AOT already covers JPA entities and controller payloads, but ModelMapper
+ * discovers getters and setters reflectively at runtime, so both sides of every
+ * {@code modelMapper.map(...)} call need their constructors and methods registered.
+ * The query budget wraps JDBC connections and statements in JDK proxies, which also
+ * have to be declared ahead of time.
+ */
+public class NativeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> type : new Class<?>[]{Employee.class, EmployeeDTO.class}) {
+            hints.reflection().registerType(type,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+        for (Class<?> type : new Class<?>[]{Connection.class, Statement.class, PreparedStatement.class,
+                CallableStatement.class}) {
+            hints.proxies().registerJdkProxy(type);
+        }
+    }
+}
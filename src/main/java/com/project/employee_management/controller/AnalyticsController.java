@@ -0,0 +1,68 @@
+package com.project.employee_management.controller;
+
+import com.project.employee_management.dto.RosterCountResponse;
+import com.project.employee_management.dto.RosterSnapshotInfo;
+import com.project.employee_management.service.RosterAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/analytics/roster")
+@Slf4j
+@Tag(name = "Roster Analytics", description = "Group-by counts over a periodically refreshed roster snapshot")
+public class AnalyticsController {
+
+    private final RosterAnalyticsService rosterAnalyticsService;
+
+    public AnalyticsController(RosterAnalyticsService rosterAnalyticsService) {
+        this.rosterAnalyticsService = rosterAnalyticsService;
+    }
+
+    @GetMapping("/counts")
+    @Operation(summary = "Count employees by group", description = "Filters and counts employees grouped by any of " +
+            "STATUS, ROLE, PRIMARY_SKILL, SECONDARY_SKILL and CREATED_MONTH. Role and skill filters ignore case and the skill filter matches either skill; " +
+            "createdFrom is inclusive and createdTo exclusive.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully counted employees"),
+            @ApiResponse(responseCode = "400", description = "Unknown dimension or status, or invalid date range")
+    })
+    public ResponseEntity<RosterCountResponse> countEmployees(
+            @RequestParam(required = false, defaultValue = "") List<String> groupBy,
+            @RequestParam(name = "status", required = false, defaultValue = "") List<String> statuses,
+            @RequestParam(name = "role", required = false, defaultValue = "") List<String> roles,
+            @RequestParam(name = "skill", required = false, defaultValue = "") List<String> skills,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdTo,
+            @RequestParam(required = false) Boolean parallel) {
+        log.info("REST request to count employees grouped by: {}", groupBy);
+        RosterCountResponse response = rosterAnalyticsService.countEmployees(groupBy, statuses, roles, skills,
+                createdFrom, createdTo, parallel);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/snapshot")
+    @Operation(summary = "Get snapshot info", description = "Size, off-heap footprint and age of the current snapshot")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved snapshot info")
+    public ResponseEntity<RosterSnapshotInfo> getSnapshotInfo() {
+        log.info("REST request to get roster snapshot info");
+        return ResponseEntity.ok(rosterAnalyticsService.getSnapshotInfo());
+    }
+
+    @PostMapping("/snapshot")
+    @Operation(summary = "Refresh snapshot", description = "Rebuilds the snapshot now instead of waiting for the " +
+            "next scheduled refresh")
+    @ApiResponse(responseCode = "200", description = "Snapshot rebuilt")
+    public ResponseEntity<RosterSnapshotInfo> refreshSnapshot() {
+        log.info("REST request to refresh roster snapshot");
+        return ResponseEntity.ok(rosterAnalyticsService.refreshSnapshot());
+    }
+}
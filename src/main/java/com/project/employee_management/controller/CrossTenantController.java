@@ -0,0 +1,42 @@
+package com.project.employee_management.controller;
+
+import com.project.employee_management.dto.CrossTenantEmployees;
+import com.project.employee_management.dto.CrossTenantStats;
+import com.project.employee_management.service.CrossTenantQueryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/tenants/employees")
+@Slf4j
+@Tag(name = "Cross-Tenant Queries", description = "Queries that span every tenant shard")
+public class CrossTenantController {
+
+    private final CrossTenantQueryService crossTenantQueryService;
+
+    public CrossTenantController(CrossTenantQueryService crossTenantQueryService) {
+        this.crossTenantQueryService = crossTenantQueryService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Get employees of all tenants", description = "Queries every shard in parallel; " +
+            "shards that fail or time out are listed under errors")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved list")
+    public ResponseEntity<CrossTenantEmployees> getAllTenantsEmployees() {
+        log.info("REST request to get employees across tenants");
+        return ResponseEntity.ok(crossTenantQueryService.listEmployees());
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get status counts of all tenants", description = "Counts employees by status on every " +
+            "shard in parallel and sums the results")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved counts")
+    public ResponseEntity<CrossTenantStats> getAllTenantsStats() {
+        log.info("REST request to get employee stats across tenants");
+        return ResponseEntity.ok(crossTenantQueryService.countEmployeesByStatus());
+    }
+}
@@ -0,0 +1,43 @@
+package com.project.employee_management.controller;
+
+import com.project.employee_management.dto.WorkloadReport;
+import com.project.employee_management.service.WorkloadDiagnosticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/diagnostics")
+@Slf4j
+@ConditionalOnProperty(name = "employee.diagnostics.enabled", havingValue = "true")
+@Tag(name = "Diagnostics", description = "Performance diagnostics (enable with employee.diagnostics.enabled=true)")
+public class DiagnosticsController {
+
+    private final WorkloadDiagnosticsService workloadDiagnosticsService;
+
+    public DiagnosticsController(WorkloadDiagnosticsService workloadDiagnosticsService) {
+        this.workloadDiagnosticsService = workloadDiagnosticsService;
+    }
+
+    @PostMapping("/workload")
+    @Operation(summary = "Run a synthetic workload", description = "Replays a read/write mix against the employee service " +
+            "at each concurrency level and recommends connection-pool and Hibernate settings")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Workload completed"),
+            @ApiResponse(responseCode = "400", description = "Invalid workload parameters")
+    })
+    public ResponseEntity<WorkloadReport> runWorkload(@RequestParam(defaultValue = "2000") int operations,
+                                                      @RequestParam(defaultValue = "0.8") double readRatio,
+                                                      @RequestParam(defaultValue = "1,2,4,8,16,32") List<Integer> concurrency) {
+        log.info("REST request to run synthetic workload with concurrency levels: {}", concurrency);
+        WorkloadReport report = workloadDiagnosticsService.runWorkload(operations, readRatio, concurrency);
+        return ResponseEntity.ok(report);
+    }
+}
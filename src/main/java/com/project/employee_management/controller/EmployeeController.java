@@ -1,18 +1,30 @@
 package com.project.employee_management.controller;
 
 import com.project.employee_management.dto.EmployeeDTO;
+import com.project.employee_management.dto.EmployeeVersionDTO;
+import com.project.employee_management.dto.MultiGetRequest;
+import com.project.employee_management.dto.MultiGetResponse;
+import com.project.employee_management.dto.SkillMatchResponse;
+import com.project.employee_management.dto.StatusTransitionRequest;
+import com.project.employee_management.dto.StatusTransitionResponse;
+import com.project.employee_management.service.EmployeeHistoryService;
 import com.project.employee_management.service.EmployeeService;
+import com.project.employee_management.service.SkillMatchService;
+import com.project.employee_management.service.StatusTransitionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/employees")
@@ -21,9 +33,16 @@ import java.util.List;
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final StatusTransitionService statusTransitionService;
+    private final SkillMatchService skillMatchService;
+    private final EmployeeHistoryService historyService;
 
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, StatusTransitionService statusTransitionService,
+                              SkillMatchService skillMatchService, EmployeeHistoryService historyService) {
         this.employeeService = employeeService;
+        this.statusTransitionService = statusTransitionService;
+        this.skillMatchService = skillMatchService;
+        this.historyService = historyService;
     }
 
     @PostMapping
@@ -59,6 +78,73 @@ public class EmployeeController {
         return ResponseEntity.ok(employee);
     }
 
+    @PostMapping("/_mget")
+    @Operation(summary = "Get many employees", description = "Fetches up to 5000 employees by database id and/or " +
+            "employee ID in one call. Keys with no employee are reported as not found instead of failing the call.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "One result per requested key, in request order"),
+            @ApiResponse(responseCode = "400", description = "No keys or too many keys")
+    })
+    public ResponseEntity<MultiGetResponse> getEmployees(@Valid @RequestBody MultiGetRequest request) {
+        log.info("REST request to get {} employees by id and {} by employeeId",
+                request.getIds() != null ? request.getIds().size() : 0,
+                request.getEmployeeIds() != null ? request.getEmployeeIds().size() : 0);
+        MultiGetResponse response = employeeService.getEmployees(request.getIds(), request.getEmployeeIds());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/_mget")
+    @Operation(summary = "Get many employees (query parameters)", description = "Same as POST /employees/_mget, " +
+            "with comma-separated ids and employeeIds for short lists")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "One result per requested key, in request order"),
+            @ApiResponse(responseCode = "400", description = "No keys or too many keys")
+    })
+    public ResponseEntity<MultiGetResponse> getEmployees(@RequestParam(required = false, defaultValue = "") List<Long> ids,
+                                                         @RequestParam(required = false, defaultValue = "") List<String> employeeIds) {
+        log.info("REST request to get {} employees by id and {} by employeeId", ids.size(), employeeIds.size());
+        MultiGetResponse response = employeeService.getEmployees(ids, employeeIds);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{id}/history")
+    @Operation(summary = "Get employee history", description = "Retrieves every recorded version of an employee, oldest first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "History found"),
+            @ApiResponse(responseCode = "404", description = "No history for this employee")
+    })
+    public ResponseEntity<List<EmployeeVersionDTO>> getEmployeeHistory(@PathVariable Long id) {
+        log.info("REST request to get history of employee with id: {}", id);
+        List<EmployeeVersionDTO> history = historyService.getEmployeeHistory(id);
+        return ResponseEntity.ok(history);
+    }
+
+    @GetMapping("/{id}/as-of")
+    @Operation(summary = "Get employee as of a time", description = "Retrieves an employee as it was at the given time (ISO date-time)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Employee found"),
+            @ApiResponse(responseCode = "404", description = "Employee did not exist at that time")
+    })
+    public ResponseEntity<EmployeeDTO> getEmployeeAsOf(@PathVariable Long id,
+                                                       @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        log.info("REST request to get employee with id: {} as of {}", id, at);
+        EmployeeDTO employee = historyService.getEmployeeAsOf(id, at);
+        return ResponseEntity.ok(employee);
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Count employees by status", description = "Counts employees per status, currently or as of " +
+            "the given time (ISO date-time)")
+    @ApiResponse(responseCode = "200", description = "Successfully counted employees")
+    public ResponseEntity<Map<String, Long>> countEmployeesByStatus(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        log.info("REST request to count employees by status as of: {}", at != null ? at : "now");
+        Map<String, Long> counts = at != null
+                ? historyService.countEmployeesByStatusAsOf(at)
+                : employeeService.countEmployeesByStatus();
+        return ResponseEntity.ok(counts);
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update an employee", description = "Updates an existing employee record")
     @ApiResponses(value = {
@@ -102,4 +188,35 @@ public class EmployeeController {
         List<EmployeeDTO> employees = employeeService.listEmployeesByStatus(status);
         return ResponseEntity.ok(employees);
     }
+
+    @GetMapping("/match")
+    @Operation(summary = "Match employees by skill", description = "Ranks employees whose primary or secondary skill " +
+            "is one of the given skills (primary match scores higher), optionally filtered by status and role")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully matched employees"),
+            @ApiResponse(responseCode = "400", description = "Invalid query parameters")
+    })
+    public ResponseEntity<SkillMatchResponse> matchEmployees(@RequestParam List<String> skills,
+                                                             @RequestParam(name = "status", required = false, defaultValue = "") List<String> statuses,
+                                                             @RequestParam(name = "role", required = false, defaultValue = "") List<String> roles,
+                                                             @RequestParam(defaultValue = "20") int limit) {
+        log.info("REST request to match employees with skills: {}", skills);
+        SkillMatchResponse response = skillMatchService.matchEmployees(skills, statuses, roles, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @PatchMapping("/status")
+    @Operation(summary = "Transition employee statuses", description = "Sets the status of up to 5000 employees at once. " +
+            "In ASYNC mode changes are journaled and applied in batches shortly after the response (202).")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statuses updated (SYNC mode)"),
+            @ApiResponse(responseCode = "202", description = "Transitions accepted for write-behind (ASYNC mode)"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data")
+    })
+    public ResponseEntity<StatusTransitionResponse> transitionStatus(@Valid @RequestBody StatusTransitionRequest request) {
+        log.info("REST request to transition {} employees to status: {}", request.getIds().size(), request.getStatus());
+        StatusTransitionResponse response = statusTransitionService.transitionStatus(request.getIds(), request.getStatus());
+        HttpStatus httpStatus = "ASYNC".equals(response.getMode()) ? HttpStatus.ACCEPTED : HttpStatus.OK;
+        return new ResponseEntity<>(response, httpStatus);
+    }
 }
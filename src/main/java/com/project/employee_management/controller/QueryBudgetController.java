@@ -0,0 +1,32 @@
+package com.project.employee_management.controller;
+
+import com.project.employee_management.monitoring.QueryBudgetMetrics;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/diagnostics")
+@ConditionalOnProperty(name = "employee.query-budget.enabled", havingValue = "true", matchIfMissing = true)
+@Tag(name = "Query Budget", description = "SQL statements per endpoint since startup")
+public class QueryBudgetController {
+
+    private final QueryBudgetMetrics queryBudgetMetrics;
+
+    public QueryBudgetController(QueryBudgetMetrics queryBudgetMetrics) {
+        this.queryBudgetMetrics = queryBudgetMetrics;
+    }
+
+    @GetMapping("/query-budget")
+    @Operation(summary = "Get statement counts per endpoint", description = "Requests, statements, statement time, " +
+            "requests with a repeated statement shape (likely N+1) and slow statements, keyed by \"METHOD /pattern\"")
+    public ResponseEntity<Map<String, Map<String, Number>>> getQueryBudget() {
+        return ResponseEntity.ok(queryBudgetMetrics.snapshot());
+    }
+}
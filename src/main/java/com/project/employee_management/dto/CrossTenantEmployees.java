@@ -0,0 +1,22 @@
+package com.project.employee_management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Employees gathered from every tenant shard")
+public class CrossTenantEmployees {
+
+    @Schema(description = "Employees per tenant, for shards that answered in time")
+    private Map<String, List<EmployeeDTO>> tenants;
+
+    @Schema(description = "Tenants that failed or timed out, with the reason")
+    private Map<String, String> errors;
+}
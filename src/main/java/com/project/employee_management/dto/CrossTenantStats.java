@@ -0,0 +1,24 @@
+package com.project.employee_management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Employee counts by status across every tenant shard")
+public class CrossTenantStats {
+
+    @Schema(description = "Counts per status summed over the shards that answered in time")
+    private Map<String, Long> totals;
+
+    @Schema(description = "Counts per status for each tenant")
+    private Map<String, Map<String, Long>> tenants;
+
+    @Schema(description = "Tenants that failed or timed out, with the reason")
+    private Map<String, String> errors;
+}
@@ -0,0 +1,19 @@
+package com.project.employee_management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Employee matching a staffing query")
+public class EmployeeMatchDTO {
+
+    @Schema(description = "Match score: 2 for a primary skill match, 1 for a secondary skill match, 3 for both", example = "3")
+    private int score;
+
+    @Schema(description = "The matching employee")
+    private EmployeeDTO employee;
+}
@@ -0,0 +1,27 @@
+package com.project.employee_management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "One recorded version of an employee")
+public class EmployeeVersionDTO {
+
+    @Schema(description = "What produced this version", example = "UPDATE", allowableValues = {"CREATE", "UPDATE", "STATUS_CHANGE", "DELETE"})
+    private String changeType;
+
+    @Schema(description = "When this version took effect")
+    private LocalDateTime validFrom;
+
+    @Schema(description = "When the next version replaced it; null for the current version")
+    private LocalDateTime validTo;
+
+    @Schema(description = "The employee as of this version")
+    private EmployeeDTO employee;
+}
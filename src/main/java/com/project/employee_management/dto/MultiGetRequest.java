@@ -0,0 +1,24 @@
+package com.project.employee_management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Employees to fetch in one call, by database id and/or employee ID")
+public class MultiGetRequest {
+
+    @Schema(description = "Database ids to fetch", example = "[1, 2, 3]")
+    private List<@NotNull Long> ids = new ArrayList<>();
+
+    @Schema(description = "Employee IDs to fetch", example = "[\"EMP001\", \"EMP002\"]")
+    private List<@NotBlank String> employeeIds = new ArrayList<>();
+}
@@ -0,0 +1,24 @@
+package com.project.employee_management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Employees fetched in one call")
+public class MultiGetResponse {
+
+    @Schema(description = "Number of keys that resolved to an employee", example = "2")
+    private int found;
+
+    @Schema(description = "Number of keys with no employee", example = "1")
+    private int notFound;
+
+    @Schema(description = "One result per requested key: ids first, then employee IDs, each in request order")
+    private List<MultiGetResult> results;
+}
@@ -0,0 +1,25 @@
+package com.project.employee_management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of one requested key")
+public class MultiGetResult {
+
+    @Schema(description = "Requested database id, when looked up by id", example = "1")
+    private Long id;
+
+    @Schema(description = "Requested employee ID, when looked up by employee ID", example = "EMP001")
+    private String employeeId;
+
+    @Schema(description = "Whether an employee exists for this key", example = "true")
+    private boolean found;
+
+    @Schema(description = "The employee, null when not found")
+    private EmployeeDTO employee;
+}
@@ -0,0 +1,37 @@
+package com.project.employee_management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Employee counts grouped over the analytics snapshot")
+public class RosterCountResponse {
+
+    @Schema(description = "Group-by dimensions, in key order", example = "[\"STATUS\", \"ROLE\"]")
+    private List<String> groupBy;
+
+    @Schema(description = "When the snapshot being queried was taken")
+    private LocalDateTime snapshotTime;
+
+    @Schema(description = "Employees in the snapshot", example = "100000")
+    private long scanned;
+
+    @Schema(description = "Employees matching the filters", example = "20000")
+    private long matched;
+
+    @Schema(description = "Whether the scan was split across the fork-join pool", example = "false")
+    private boolean parallel;
+
+    @Schema(description = "Time spent scanning the snapshot, in milliseconds", example = "1.8")
+    private double scanMillis;
+
+    @Schema(description = "Groups, largest first")
+    private List<RosterGroupDTO> groups;
+}
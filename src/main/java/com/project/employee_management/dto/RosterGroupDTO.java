@@ -0,0 +1,21 @@
+package com.project.employee_management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "One group of a roster count")
+public class RosterGroupDTO {
+
+    @Schema(description = "Value of each group-by dimension", example = "{\"STATUS\": \"BENCH\", \"ROLE\": \"QA Engineer\"}")
+    private Map<String, String> key;
+
+    @Schema(description = "Number of employees in the group", example = "12")
+    private long count;
+}
@@ -0,0 +1,39 @@
+package com.project.employee_management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Size and age of a tenant's analytics snapshot")
+public class RosterSnapshotInfo {
+
+    @Schema(description = "Tenant the snapshot belongs to", example = "default")
+    private String tenant;
+
+    @Schema(description = "Employees in the snapshot", example = "100000")
+    private int rows;
+
+    @Schema(description = "Off-heap bytes held by the snapshot columns", example = "2100000")
+    private long offHeapBytes;
+
+    @Schema(description = "Off-heap bytes per employee", example = "21.0")
+    private double bytesPerRow;
+
+    @Schema(description = "Distinct roles in the role dictionary", example = "9")
+    private int distinctRoles;
+
+    @Schema(description = "Distinct skills in the skill dictionary", example = "45")
+    private int distinctSkills;
+
+    @Schema(description = "When the snapshot was taken")
+    private LocalDateTime builtAt;
+
+    @Schema(description = "Time taken to build the snapshot, in milliseconds", example = "350")
+    private long buildMillis;
+}
@@ -0,0 +1,21 @@
+package com.project.employee_management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Top matches of a staffing query")
+public class SkillMatchResponse {
+
+    @Schema(description = "Number of employees matching the query, before the limit is applied", example = "42")
+    private long totalMatches;
+
+    @Schema(description = "Best matches, highest score first")
+    private List<EmployeeMatchDTO> matches;
+}
@@ -0,0 +1,28 @@
+package com.project.employee_management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Bulk status transition for a group of employees")
+public class StatusTransitionRequest {
+
+    @NotEmpty(message = "At least one employee id is required")
+    @Size(max = 5000, message = "At most 5000 employees can be transitioned per request")
+    @Schema(description = "Database ids of the employees to transition", example = "[1, 2, 3]", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<@NotNull Long> ids;
+
+    @NotBlank(message = "Status is required")
+    @Schema(description = "Target status", example = "BENCH", requiredMode = Schema.RequiredMode.REQUIRED, allowableValues = {"ACTIVE", "BENCH", "RESIGNED"})
+    private String status;
+}
@@ -0,0 +1,22 @@
+package com.project.employee_management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of a bulk status transition")
+public class StatusTransitionResponse {
+
+    @Schema(description = "Number of distinct employee ids accepted", example = "3")
+    private int accepted;
+
+    @Schema(description = "Number of rows updated before responding (always 0 in ASYNC mode)", example = "3")
+    private int applied;
+
+    @Schema(description = "Write mode used for this request", example = "ASYNC", allowableValues = {"SYNC", "ASYNC"})
+    private String mode;
+}
@@ -0,0 +1,49 @@
+package com.project.employee_management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Measurements for one concurrency level of a synthetic workload run")
+public class WorkloadLevelResult {
+
+    @Schema(description = "Number of concurrent callers", example = "8")
+    private int concurrency;
+
+    @Schema(description = "Completed operations per second", example = "5120.4")
+    private double throughput;
+
+    @Schema(description = "Median latency in milliseconds", example = "1.2")
+    private double p50Millis;
+
+    @Schema(description = "95th percentile latency in milliseconds", example = "3.4")
+    private double p95Millis;
+
+    @Schema(description = "99th percentile latency in milliseconds", example = "6.8")
+    private double p99Millis;
+
+    @Schema(description = "Highest number of connections in use during the run", example = "8")
+    private int peakActiveConnections;
+
+    @Schema(description = "Highest number of threads waiting for a connection during the run", example = "0")
+    private int peakPendingThreads;
+
+    @Schema(description = "Operations that failed", example = "0")
+    private int errors;
+
+    @Schema(description = "Average SQL statements per read operation", example = "1.0")
+    private double statementsPerRead;
+
+    @Schema(description = "Average SQL statements per write operation", example = "4.0")
+    private double statementsPerWrite;
+
+    @Schema(description = "Most executions of one statement shape within a single read (N+1 when above 1)", example = "1")
+    private int maxRepeatsPerRead;
+
+    @Schema(description = "Most executions of one statement shape within a single write transaction", example = "1")
+    private int maxRepeatsPerWrite;
+}
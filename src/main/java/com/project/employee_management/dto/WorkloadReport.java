@@ -0,0 +1,34 @@
+package com.project.employee_management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Result of a synthetic workload run with recommended pool and Hibernate settings")
+public class WorkloadReport {
+
+    @Schema(description = "Operations executed per concurrency level", example = "2000")
+    private int operationsPerLevel;
+
+    @Schema(description = "Share of operations that were reads", example = "0.8")
+    private double readRatio;
+
+    @Schema(description = "Maximum pool size configured when the run started (-1 if not a HikariCP pool)", example = "10")
+    private int configuredPoolSize;
+
+    @Schema(description = "Measurements per concurrency level")
+    private List<WorkloadLevelResult> levels;
+
+    @Schema(description = "Recommended settings, keyed by property name")
+    private Map<String, String> recommendations;
+
+    @Schema(description = "Reasoning behind the recommendations")
+    private List<String> notes;
+}
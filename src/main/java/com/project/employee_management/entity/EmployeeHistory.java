@@ -0,0 +1,91 @@
+package com.project.employee_management.entity;
+
+import com.project.employee_management.entity.Employee.EmployeeStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One version of an employee, appended whenever the employee is created, updated,
+ * transitioned or deleted. A version is valid over {@code [validFrom, validTo)}; appending
+ * a new version closes the previous one, and the current version stays open until
+ * {@link #OPEN_END}. The version in effect at time T is therefore the single one with
+ * {@code validFrom <= T < validTo}; a {@code DELETE} version means the employee did not exist.
+ */
+@Entity
+@Table(name = "employee_history", indexes = {
+        @Index(name = "idx_employee_history_employee_validity", columnList = "employee_pk, valid_from, valid_to"),
+        @Index(name = "idx_employee_history_validity", columnList = "valid_to, valid_from")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeHistory {
+
+    /**
+     * {@code validTo} of the current version, so as-of lookups are plain range predicates.
+     */
+    public static final LocalDateTime OPEN_END = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "employee_pk", nullable = false, updatable = false)
+    private Long employeePk;
+
+    @Column(name = "valid_from", nullable = false, updatable = false)
+    private LocalDateTime validFrom;
+
+    @Column(name = "valid_to", nullable = false)
+    private LocalDateTime validTo;
+
+    @Column(name = "change_type", nullable = false, updatable = false)
+    @Enumerated(EnumType.STRING)
+    private ChangeType changeType;
+
+    @Column(name = "employee_id", nullable = false, updatable = false)
+    private String employeeId;
+
+    @Column(name = "first_name", nullable = false, updatable = false)
+    private String firstName;
+
+    @Column(name = "last_name", nullable = false, updatable = false)
+    private String lastName;
+
+    @Column(name = "email", nullable = false, updatable = false)
+    private String email;
+
+    @Column(name = "role", nullable = false, updatable = false)
+    private String role;
+
+    @Column(name = "status", nullable = false, updatable = false)
+    @Enumerated(EnumType.STRING)
+    private EmployeeStatus status;
+
+    @Column(name = "primary_skill", nullable = false, updatable = false)
+    private String primarySkill;
+
+    @Column(name = "secondary_skill", updatable = false)
+    private String secondarySkill;
+
+    @Column(name = "date_created", updatable = false)
+    private LocalDateTime dateCreated;
+
+    public static EmployeeHistory of(Employee employee, ChangeType changeType, LocalDateTime validFrom) {
+        return new EmployeeHistory(null, employee.getId(), validFrom, OPEN_END, changeType,
+                employee.getEmployeeId(), employee.getFirstName(), employee.getLastName(), employee.getEmail(),
+                employee.getRole(), employee.getStatus(), employee.getPrimarySkill(), employee.getSecondarySkill(),
+                employee.getDateCreated());
+    }
+
+    public enum ChangeType {
+        CREATE,
+        UPDATE,
+        STATUS_CHANGE,
+        DELETE
+    }
+}
@@ -0,0 +1,50 @@
+package com.project.employee_management.monitoring;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+@EnableConfigurationProperties(QueryBudgetProperties.class)
+public class QueryBudgetConfig {
+
+    static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Configuration
+    @ConditionalOnProperty(name = "employee.query-budget.enabled", havingValue = "true", matchIfMissing = true)
+    static class QueryTrackingConfig {
+
+        /**
+         * Wraps the primary data source, whichever configuration defined it (plain pool,
+         * tenant routing or read/write routing), so JPA and JdbcTemplate statements are
+         * both counted.
+         */
+        @Bean
+        static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof DataSource dataSource
+                            && !(bean instanceof QueryCountingDataSource)) {
+                        return new QueryCountingDataSource(dataSource);
+                    }
+                    return bean;
+                }
+            };
+        }
+
+        @Bean
+        public QueryBudgetMetrics queryBudgetMetrics() {
+            return new QueryBudgetMetrics();
+        }
+
+        @Bean
+        public QueryBudgetFilter queryBudgetFilter(QueryBudgetProperties properties, QueryBudgetMetrics metrics) {
+            return new QueryBudgetFilter(properties, metrics);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.project.employee_management.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Tracks the statements of each HTTP request, then feeds {@link QueryBudgetMetrics} and logs
+ * a sample of requests. Requests that repeat a statement shape (likely N+1) or run a slow
+ * statement are logged at WARN: always the first one per endpoint, afterwards as sampled.
+ */
+@Slf4j
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private final QueryBudgetProperties properties;
+    private final QueryBudgetMetrics metrics;
+
+    public QueryBudgetFilter(QueryBudgetProperties properties, QueryBudgetMetrics metrics) {
+        this.properties = properties;
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryStats stats = QueryStatsContext.begin(properties.getSlowQueryMs());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryStatsContext.end();
+            report(endpoint(request), stats);
+        }
+    }
+
+    private void report(String endpoint, QueryStats stats) {
+        Map<String, Integer> repeated = stats.repeatedShapes(properties.getRepeatedStatementThreshold());
+        boolean slow = !stats.getSlowStatements().isEmpty();
+        boolean firstFinding = metrics.record(endpoint, stats, !repeated.isEmpty(), slow);
+        boolean sampled = ThreadLocalRandom.current().nextDouble() < properties.getLogSampleRate();
+
+        if ((!repeated.isEmpty() || slow) && (firstFinding || sampled)) {
+            log.warn("{} ran {} statements in {} ms; repeated shapes: {}; slow statements: {}",
+                    endpoint, stats.getStatementCount(), stats.getTotalMillis(), repeated, stats.getSlowStatements());
+        } else if (sampled) {
+            log.info("{} ran {} statements in {} ms", endpoint, stats.getStatementCount(), stats.getTotalMillis());
+        }
+    }
+
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "<unmapped>");
+    }
+}
@@ -0,0 +1,62 @@
+package com.project.employee_management.monitoring;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint statement totals since startup, for spotting endpoints whose query count
+ * drifts without having to log every request.
+ */
+public class QueryBudgetMetrics {
+
+    private final Map<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Records one request and returns whether it is the endpoint's first request with findings.
+     */
+    boolean record(String endpoint, QueryStats stats, boolean repeated, boolean slow) {
+        EndpointMetrics metrics = endpoints.computeIfAbsent(endpoint, key -> new EndpointMetrics());
+        metrics.requests.increment();
+        metrics.statements.add(stats.getStatementCount());
+        metrics.statementMicros.add((long) (stats.getTotalMillis() * 1000));
+        metrics.maxStatements.accumulateAndGet(stats.getStatementCount(), Math::max);
+        if (repeated) {
+            metrics.repeatedStatementRequests.increment();
+        }
+        if (slow) {
+            metrics.slowStatements.add(stats.getSlowStatements().size());
+        }
+        return (repeated || slow) && metrics.findingsLogged.compareAndSet(0, 1);
+    }
+
+    public Map<String, Map<String, Number>> snapshot() {
+        Map<String, Map<String, Number>> snapshot = new TreeMap<>();
+        endpoints.forEach((endpoint, metrics) -> {
+            long requests = metrics.requests.sum();
+            Map<String, Number> values = new TreeMap<>();
+            values.put("requests", requests);
+            values.put("statements", metrics.statements.sum());
+            values.put("avgStatements", requests == 0 ? 0 : (double) metrics.statements.sum() / requests);
+            values.put("maxStatements", metrics.maxStatements.get());
+            values.put("avgStatementMillis", requests == 0 ? 0 : metrics.statementMicros.sum() / 1000.0 / requests);
+            values.put("repeatedStatementRequests", metrics.repeatedStatementRequests.sum());
+            values.put("slowStatements", metrics.slowStatements.sum());
+            snapshot.put(endpoint, values);
+        });
+        return snapshot;
+    }
+
+    private static final class EndpointMetrics {
+
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder statementMicros = new LongAdder();
+        private final AtomicInteger maxStatements = new AtomicInteger();
+        private final LongAdder repeatedStatementRequests = new LongAdder();
+        private final LongAdder slowStatements = new LongAdder();
+        private final AtomicInteger findingsLogged = new AtomicInteger();
+    }
+}
@@ -0,0 +1,36 @@
+package com.project.employee_management.monitoring;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "employee.query-budget")
+public class QueryBudgetProperties {
+
+    /**
+     * Count and time the JDBC statements of every HTTP request.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Add X-Query-* headers to API responses. Meant for development.
+     */
+    private boolean responseHeaders = false;
+
+    /**
+     * Statements taking at least this long are reported as slow.
+     */
+    private long slowQueryMs = 100;
+
+    /**
+     * A statement shape executed more than this many times in one request is reported as
+     * a likely N+1.
+     */
+    private int repeatedStatementThreshold = 5;
+
+    /**
+     * Fraction of requests whose statement summary is logged. The first request with
+     * findings on each endpoint is always logged.
+     */
+    private double logSampleRate = 0.0;
+}
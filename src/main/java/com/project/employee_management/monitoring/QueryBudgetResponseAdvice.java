@@ -0,0 +1,55 @@
+package com.project.employee_management.monitoring;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Locale;
+
+/**
+ * Adds the statement count and time of the request to API responses. Headers have to be set
+ * before the body is written, and by then the service call that ran the statements is done.
+ * <p>
+ * {@code employee.query-budget.response-headers} is checked per response rather than as a bean
+ * condition, so AOT and native images honour the value they are started with.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "employee.query-budget.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryBudgetResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    static final String QUERY_TIME_HEADER = "X-Query-Time-Ms";
+    static final String REPEATED_HEADER = "X-Query-Repeated-Shapes";
+    static final String SLOW_HEADER = "X-Query-Slow";
+
+    private final QueryBudgetProperties properties;
+
+    public QueryBudgetResponseAdvice(QueryBudgetProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return properties.isResponseHeaders();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        QueryStats stats = QueryStatsContext.current();
+        if (stats != null) {
+            response.getHeaders().set(QUERY_COUNT_HEADER, String.valueOf(stats.getStatementCount()));
+            response.getHeaders().set(QUERY_TIME_HEADER, String.format(Locale.ROOT, "%.2f", stats.getTotalMillis()));
+            response.getHeaders().set(REPEATED_HEADER,
+                    String.valueOf(stats.repeatedShapes(properties.getRepeatedStatementThreshold()).size()));
+            response.getHeaders().set(SLOW_HEADER, String.valueOf(stats.getSlowStatements().size()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,102 @@
+package com.project.employee_management.monitoring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Records every statement executed through its connections into the current thread's
+ * {@link QueryStats}. Connections fetched while nothing is tracked are returned unwrapped,
+ * so background work (flushes, snapshot refreshes) pays nothing.
+ */
+public class QueryCountingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    public QueryCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static Connection track(Connection connection) {
+        if (QueryStatsContext.current() == null) {
+            return connection;
+        }
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement && method.getName().startsWith("prepare")) {
+                Class<? extends Statement> type = statement instanceof CallableStatement
+                        ? CallableStatement.class : PreparedStatement.class;
+                return trackStatement(type, statement, (String) args[0]);
+            }
+            if (result instanceof Statement statement && method.getName().equals("createStatement")) {
+                return trackStatement(Statement.class, statement, null);
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Prepared statements know their SQL up front; plain statements get it with each execute call.
+     */
+    private static Statement trackStatement(Class<? extends Statement> type, Statement statement, String preparedSql) {
+        return proxy(type, statement, (proxy, method, args) -> {
+            if (!method.getName().startsWith("execute")) {
+                return invoke(statement, method, args);
+            }
+            String sql = preparedSql != null ? preparedSql
+                    : args != null && args.length > 0 && args[0] instanceof String text ? text : "<batch>";
+            long start = System.nanoTime();
+            try {
+                return invoke(statement, method, args);
+            } finally {
+                QueryStats stats = QueryStatsContext.current();
+                if (stats != null) {
+                    stats.record(sql, System.nanoTime() - start);
+                }
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<? extends T> type, T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    // Identity must be the proxy's own, or pooled-connection bookkeeping stops matching
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> handler.invoke(proxy, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.project.employee_management.monitoring;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Statements executed on one thread while tracking is active (plus any worker threads' stats
+ * added to it once they are joined): how many, how long they took,
+ * which ones were slow and how often each SQL string ran. Shapes (SQL with literals and IN
+ * lists collapsed) are only computed when asked for, to keep recording cheap.
+ */
+public class QueryStats {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_SLOW_STATEMENTS = 20;
+
+    private final long slowThresholdNanos;
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+    private final List<SlowStatement> slowStatements = new ArrayList<>();
+    private int statementCount;
+    private long totalNanos;
+
+    public QueryStats(long slowThresholdMs) {
+        this.slowThresholdNanos = slowThresholdMs * 1_000_000;
+    }
+
+    void record(String sql, long nanos) {
+        statementCount++;
+        totalNanos += nanos;
+        executionsBySql.merge(sql, 1, Integer::sum);
+        if (nanos >= slowThresholdNanos && slowStatements.size() < MAX_SLOW_STATEMENTS) {
+            slowStatements.add(new SlowStatement(shape(sql), nanos / 1_000_000.0));
+        }
+    }
+
+    /**
+     * Add the statements another thread recorded for the same unit of work, e.g. a
+     * scatter-gather worker. Must be called on the thread that owns these stats.
+     */
+    public void add(QueryStats other) {
+        statementCount += other.statementCount;
+        totalNanos += other.totalNanos;
+        other.executionsBySql.forEach((sql, count) -> executionsBySql.merge(sql, count, Integer::sum));
+        for (SlowStatement slowStatement : other.slowStatements) {
+            if (slowStatements.size() >= MAX_SLOW_STATEMENTS) {
+                break;
+            }
+            slowStatements.add(slowStatement);
+        }
+    }
+
+    public long getSlowThresholdMs() {
+        return slowThresholdNanos / 1_000_000;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public double getTotalMillis() {
+        return totalNanos / 1_000_000.0;
+    }
+
+    public List<SlowStatement> getSlowStatements() {
+        return Collections.unmodifiableList(slowStatements);
+    }
+
+    /**
+     * Statement shapes executed more than {@code threshold} times, with their counts.
+     */
+    public Map<String, Integer> repeatedShapes(int threshold) {
+        Map<String, Integer> executionsByShape = new HashMap<>();
+        executionsBySql.forEach((sql, count) -> executionsByShape.merge(shape(sql), count, Integer::sum));
+
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        executionsByShape.entrySet().stream()
+                .filter(entry -> entry.getValue() > threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+        return repeated;
+    }
+
+    static String shape(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    public record SlowStatement(String shape, double millis) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.project.employee_management.monitoring;
+
+import java.util.function.Supplier;
+
+/**
+ * Holds the {@link QueryStats} of the current thread. The query budget filter opens one per
+ * HTTP request; tests can open their own around a service call to assert a statement budget.
+ * Work handed to other threads is tracked with {@link #callTracked} and added back by the caller.
+ */
+public final class QueryStatsContext {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private QueryStatsContext() {
+    }
+
+    public static QueryStats begin(long slowThresholdMs) {
+        QueryStats stats = new QueryStats(slowThresholdMs);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static QueryStats begin() {
+        return begin(Long.MAX_VALUE / 1_000_000);
+    }
+
+    /**
+     * Stats of the current thread, or {@code null} when nothing is being tracked.
+     */
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Run {@code task} on the current (worker) thread with its own stats, configured like
+     * {@code parent}. The thread that owns {@code parent} adds the returned stats to it once it
+     * has the result. With no parent nothing is tracked and the returned stats are {@code null}.
+     */
+    public static <T> Tracked<T> callTracked(QueryStats parent, Supplier<T> task) {
+        if (parent == null) {
+            return new Tracked<>(task.get(), null);
+        }
+        QueryStats stats = begin(parent.getSlowThresholdMs());
+        try {
+            return new Tracked<>(task.get(), stats);
+        } finally {
+            end();
+        }
+    }
+
+    public record Tracked<T>(T result, QueryStats stats) {
+
+        /**
+         * The result, after adding this task's statements to {@code parent} (if tracked)
+         */
+        public T addTo(QueryStats parent) {
+            if (parent != null && stats != null) {
+                parent.add(stats);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.project.employee_management.replication;
+
+import com.project.employee_management.replication.ReplicationProperties.Strategy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a healthy replica and everything else to the primary.
+ * <p>
+ * Routing happens when the connection is fetched, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}; otherwise the
+ * connection is taken before the transaction's read-only flag is known. Replicas are probed
+ * on a background thread for liveness, round-trip latency and (optionally) replication lag;
+ * when none qualifies, reads fall back to the primary. A replica only becomes eligible once a
+ * probe has succeeded, and the first probe runs before the data source is handed out, so no
+ * read reaches a replica that was never checked. A lag query that returns no row means the
+ * lag is unknown, which excludes the replica while lag-aware routing is on.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private static final double LATENCY_SMOOTHING = 0.3;
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+    private static final long UNKNOWN_LAG = Long.MAX_VALUE;
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final ReplicationProperties properties;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final ScheduledExecutorService healthChecker;
+
+    public ReadWriteRoutingDataSource(String name, DataSource primary, List<DataSource> replicaDataSources,
+                                      ReplicationProperties properties) {
+        this.primary = primary;
+        this.properties = properties;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            Replica replica = new Replica("replica-" + i, replicaDataSources.get(i));
+            replicas.add(replica);
+            targets.put(replica.key, replica.dataSource);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+
+        healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name + "-replica-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (!replicas.isEmpty()) {
+            checkReplicas();
+            healthChecker.scheduleWithFixedDelay(this::checkReplicas, properties.getHealthCheckIntervalMs(),
+                    properties.getHealthCheckIntervalMs(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || ReplicaRoutingContext.isPinnedToPrimary()) {
+            return PRIMARY;
+        }
+        Replica replica = selectReplica();
+        return replica != null ? replica.key : PRIMARY;
+    }
+
+    Replica selectReplica() {
+        List<Replica> candidates = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            if (replica.healthy && (!properties.isLagAware() || replica.lagMs <= properties.getMaxLagMs())) {
+                candidates.add(replica);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        if (properties.getStrategy() == Strategy.LEAST_LATENCY) {
+            return candidates.stream().min(Comparator.comparingDouble(replica -> replica.latencyMs)).orElseThrow();
+        }
+        return candidates.get(Math.floorMod(nextReplica.getAndIncrement(), candidates.size()));
+    }
+
+    /**
+     * Probes every replica once: validity, round-trip latency and, if configured, lag.
+     */
+    void checkReplicas() {
+        for (Replica replica : replicas) {
+            long start = System.nanoTime();
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    markUnhealthy(replica, "validation failed");
+                    continue;
+                }
+                double latencyMs = (System.nanoTime() - start) / 1_000_000.0;
+                replica.latencyMs = replica.latencyMs == 0
+                        ? latencyMs
+                        : LATENCY_SMOOTHING * latencyMs + (1 - LATENCY_SMOOTHING) * replica.latencyMs;
+                if (properties.getLagQuery() != null) {
+                    replica.lagMs = queryLag(connection);
+                    if (replica.lagMs == UNKNOWN_LAG && properties.isLagAware()) {
+                        log.warn("Lag query returned no value for replica {}, excluding it", replica.key);
+                    }
+                }
+                if (!replica.healthy) {
+                    log.info(replica.probed ? "Replica {} is healthy again" : "Replica {} is healthy", replica.key);
+                }
+                replica.probed = true;
+                replica.healthy = true;
+            } catch (SQLException | RuntimeException ex) {
+                markUnhealthy(replica, ex.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        healthChecker.shutdownNow();
+        closeQuietly(primary);
+        replicas.forEach(replica -> closeQuietly(replica.dataSource));
+    }
+
+    private long queryLag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(properties.getLagQuery())) {
+            if (!resultSet.next()) {
+                return UNKNOWN_LAG;
+            }
+            long lagMs = resultSet.getLong(1);
+            return resultSet.wasNull() ? UNKNOWN_LAG : lagMs;
+        }
+    }
+
+    private void markUnhealthy(Replica replica, String reason) {
+        if (replica.healthy || !replica.probed) {
+            log.warn("Replica {} marked unhealthy, routing its reads elsewhere: {}", replica.key, reason);
+        }
+        replica.probed = true;
+        replica.healthy = false;
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception ex) {
+                log.warn("Could not close data source: {}", ex.getMessage());
+            }
+        }
+    }
+
+    static final class Replica {
+
+        final String key;
+        final DataSource dataSource;
+        volatile boolean probed;
+        volatile boolean healthy;
+        volatile double latencyMs;
+        volatile long lagMs = UNKNOWN_LAG;
+
+        private Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.project.employee_management.replication;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Read-your-writes stickiness: after a client writes, its reads are pinned to the primary
+ * for {@code employee.replication.stickiness-ms} so it never reads a replica that has not
+ * caught up with its own change.
+ * <p>
+ * The time of the write travels with the client rather than living in this instance: every
+ * write response carries it in the {@code last-write-header} header and the
+ * {@code last-write-cookie} cookie, and a read that sends either one back is pinned while
+ * the write is recent. Any instance behind a load balancer can therefore honour it, as long
+ * as their clocks agree to well within the stickiness window.
+ */
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    private static final String MULTI_GET_SUFFIX = "/_mget";
+
+    private final ReplicationProperties properties;
+
+    public ReadYourWritesInterceptor(ReplicationProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (isWrite(request)) {
+            // Set before the handler runs, since the response is committed by the time it returns
+            markWrite(response, System.currentTimeMillis());
+        } else {
+            Long lastWrite = lastWrite(request);
+            long now = System.currentTimeMillis();
+            if (lastWrite != null && Math.abs(now - lastWrite) < properties.getStickinessMs()) {
+                ReplicaRoutingContext.pinToPrimary();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReplicaRoutingContext.clear();
+    }
+
+    private void markWrite(HttpServletResponse response, long now) {
+        response.setHeader(properties.getLastWriteHeader(), Long.toString(now));
+        ResponseCookie cookie = ResponseCookie.from(properties.getLastWriteCookie(), Long.toString(now))
+                .path("/")
+                .httpOnly(true)
+                .sameSite("Lax")
+                .maxAge(Duration.ofMillis(properties.getStickinessMs()).toSeconds() + 1)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    /**
+     * The last write time sent back by the client, header first; unparseable values are ignored.
+     */
+    private Long lastWrite(HttpServletRequest request) {
+        String value = request.getHeader(properties.getLastWriteHeader());
+        if ((value == null || value.isBlank()) && request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (cookie.getName().equals(properties.getLastWriteCookie())) {
+                    value = cookie.getValue();
+                }
+            }
+        }
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * POST /employees/_mget only reads, so it neither starts nor needs stickiness beyond other reads.
+     */
+    private boolean isWrite(HttpServletRequest request) {
+        return WRITE_METHODS.contains(request.getMethod()) && !request.getRequestURI().endsWith(MULTI_GET_SUFFIX);
+    }
+}
@@ -0,0 +1,25 @@
+package com.project.employee_management.replication;
+
+/**
+ * Lets the current thread force read-only transactions onto the primary, e.g. right
+ * after the same client wrote and a replica may not have caught up yet.
+ */
+public final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return Boolean.TRUE.equals(PINNED_TO_PRIMARY.get());
+    }
+
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        PINNED_TO_PRIMARY.remove();
+    }
+}
@@ -0,0 +1,95 @@
+package com.project.employee_management.replication;
+
+import com.project.employee_management.config.HikariPools;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(ReplicationProperties.class)
+@Slf4j
+public class ReplicationConfig {
+
+    /**
+     * Wraps a primary in read/write routing when replication is enabled and replicas are
+     * configured; otherwise returns the primary unchanged.
+     */
+    public static DataSource withReplicas(String name, DataSource primary, List<ReplicationProperties.Node> replicas,
+                                          ReplicationProperties properties, Binder binder) {
+        if (!properties.isEnabled() || replicas.isEmpty()) {
+            return primary;
+        }
+        if (properties.isLagAware() && (properties.getLagQuery() == null || properties.getLagQuery().isBlank())) {
+            throw new IllegalStateException("employee.replication.lag-aware requires employee.replication.lag-query");
+        }
+        List<DataSource> replicaDataSources = new ArrayList<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            ReplicationProperties.Node node = replicas.get(i);
+            replicaDataSources.add(HikariPools.create(binder, name + "-replica-" + i, node.getUrl(),
+                    node.getUsername(), node.getPassword(), node.getMaximumPoolSize()));
+        }
+        log.info("Read/write splitting enabled for '{}' with {} replicas ({})",
+                name, replicas.size(), properties.getStrategy());
+        return new ReadWriteRoutingDataSource(name, primary, replicaDataSources, properties);
+    }
+
+    @Configuration
+    @ConditionalOnExpression("${employee.replication.enabled:false} and !${employee.tenancy.enabled:false}")
+    static class SingleDatabaseReplicationConfig {
+
+        @Bean(destroyMethod = "close")
+        public ReadWriteRoutingDataSource readWriteRoutingDataSource(ReplicationProperties properties,
+                                                                     Environment environment) {
+            if (properties.getReplicas().isEmpty()) {
+                throw new IllegalStateException("employee.replication.enabled requires at least one replica");
+            }
+            Binder binder = Binder.get(environment);
+            DataSource primary = HikariPools.create(binder, "primary",
+                    environment.getRequiredProperty("spring.datasource.url"),
+                    environment.getProperty("spring.datasource.username", "sa"),
+                    environment.getProperty("spring.datasource.password", ""),
+                    null);
+            return (ReadWriteRoutingDataSource) withReplicas("primary", primary, properties.getReplicas(),
+                    properties, binder);
+        }
+
+        /**
+         * The lazy proxy defers fetching a connection until the first statement, by which
+         * point the transaction's read-only flag is set and routing can see it.
+         */
+        @Bean
+        @Primary
+        public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+            return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "employee.replication.enabled", havingValue = "true")
+    static class StickinessConfig implements WebMvcConfigurer {
+
+        private final ReplicationProperties properties;
+
+        StickinessConfig(ReplicationProperties properties) {
+            this.properties = properties;
+        }
+
+        @Override
+        public void addInterceptors(InterceptorRegistry registry) {
+            registry.addInterceptor(new ReadYourWritesInterceptor(properties));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.project.employee_management.replication;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "employee.replication")
+public class ReplicationProperties {
+
+    public enum Strategy {
+        ROUND_ROBIN,
+        LEAST_LATENCY
+    }
+
+    /**
+     * Send read-only transactions to replicas. The primary is spring.datasource (or each
+     * tenant shard when tenancy is enabled).
+     */
+    private boolean enabled = false;
+
+    private Strategy strategy = Strategy.ROUND_ROBIN;
+
+    private List<Node> replicas = new ArrayList<>();
+
+    /**
+     * How long a client's reads stay on the primary after it writes (read-your-writes).
+     */
+    private long stickinessMs = 5000;
+
+    /**
+     * Response header carrying the time of a write (epoch milliseconds); clients send it back
+     * on later reads to stay on the primary.
+     */
+    private String lastWriteHeader = "X-Last-Write";
+
+    /**
+     * Cookie carrying the same write time, for clients that keep cookies instead of headers.
+     */
+    private String lastWriteCookie = "last-write";
+
+    private long healthCheckIntervalMs = 2000;
+
+    /**
+     * Skip replicas whose reported lag exceeds max-lag-ms. Requires lag-query; startup fails
+     * without one.
+     */
+    private boolean lagAware = false;
+
+    private long maxLagMs = 1000;
+
+    /**
+     * Query run on each replica returning its replication lag in milliseconds, e.g. on PostgreSQL
+     * {@code SELECT COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)}.
+     */
+    private String lagQuery;
+
+    @Data
+    public static class Node {
+        private String url;
+        private String username = "sa";
+        private String password = "";
+
+        /**
+         * Pool size of this replica; spring.datasource.hikari.maximum-pool-size when unset.
+         */
+        private Integer maximumPoolSize;
+    }
+}
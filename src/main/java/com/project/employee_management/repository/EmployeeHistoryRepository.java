@@ -0,0 +1,88 @@
+package com.project.employee_management.repository;
+
+import com.project.employee_management.entity.EmployeeHistory;
+import com.project.employee_management.entity.EmployeeHistory.ChangeType;
+import com.project.employee_management.repository.EmployeeRepository.StatusCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EmployeeHistoryRepository extends JpaRepository<EmployeeHistory, Long> {
+
+    /**
+     * Every version of an employee, oldest first
+     */
+    List<EmployeeHistory> findByEmployeePkOrderByValidFromAscIdAsc(Long employeePk);
+
+    /**
+     * The version of an employee in effect at the given time
+     */
+    @Query("SELECT h FROM EmployeeHistory h "
+            + "WHERE h.employeePk = :employeePk AND h.validFrom <= :at AND h.validTo > :at")
+    Optional<EmployeeHistory> findVersionAsOf(@Param("employeePk") Long employeePk, @Param("at") LocalDateTime at);
+
+    /**
+     * Count employees per status from the versions in effect at the given time. Deleted
+     * employees are not counted.
+     */
+    @Query("SELECT h.status AS status, COUNT(h) AS total FROM EmployeeHistory h "
+            + "WHERE h.validFrom <= :at AND h.validTo > :at AND h.changeType <> :deleted "
+            + "GROUP BY h.status")
+    List<StatusCount> countGroupedByStatusAsOf(@Param("at") LocalDateTime at,
+                                               @Param("deleted") ChangeType deleted);
+
+    /**
+     * Close the current version of each given employee at the given time. A version that
+     * starts later (a clock running behind) is closed at its own start instead, so the
+     * versions of an employee never overlap.
+     */
+    @Modifying
+    @Query("UPDATE EmployeeHistory h "
+            + "SET h.validTo = CASE WHEN h.validFrom > :at THEN h.validFrom ELSE :at END "
+            + "WHERE h.employeePk IN :ids AND h.validTo = :openEnd")
+    int closeCurrentVersions(@Param("ids") Collection<Long> ids,
+                             @Param("at") LocalDateTime at,
+                             @Param("openEnd") LocalDateTime openEnd);
+
+    /**
+     * Append the current row of each given employee as its open version, starting where the
+     * previous version was closed (or at the given time for a first version), in a single statement
+     */
+    @Modifying
+    @Query(value = "INSERT INTO employee_history (employee_pk, valid_from, valid_to, change_type, employee_id, "
+            + "first_name, last_name, email, role, status, primary_skill, secondary_skill, date_created) "
+            + "SELECT e.id, GREATEST(:at, COALESCE((SELECT MAX(h.valid_to) FROM employee_history h "
+            + "WHERE h.employee_pk = e.id), :at)), :openEnd, :changeType, e.employee_id, e.first_name, "
+            + "e.last_name, e.email, e.role, e.status, e.primary_skill, e.secondary_skill, e.date_created "
+            + "FROM employees e WHERE e.id IN (:ids)", nativeQuery = true)
+    int appendVersions(@Param("ids") Collection<Long> ids,
+                       @Param("changeType") String changeType,
+                       @Param("at") LocalDateTime at,
+                       @Param("openEnd") LocalDateTime openEnd);
+
+    /**
+     * Record an open creation version for every employee that has no history yet, valid from its creation
+     */
+    @Modifying
+    @Query(value = "INSERT INTO employee_history (employee_pk, valid_from, valid_to, change_type, employee_id, "
+            + "first_name, last_name, email, role, status, primary_skill, secondary_skill, date_created) "
+            + "SELECT id, date_created, :openEnd, 'CREATE', employee_id, first_name, last_name, email, role, "
+            + "status, primary_skill, secondary_skill, date_created FROM employees e "
+            + "WHERE NOT EXISTS (SELECT 1 FROM employee_history h WHERE h.employee_pk = e.id)", nativeQuery = true)
+    int snapshotUntracked(@Param("openEnd") LocalDateTime openEnd);
+
+    /**
+     * Remove every version of the given employees
+     */
+    @Modifying
+    @Query("DELETE FROM EmployeeHistory h WHERE h.employeePk IN :ids")
+    int deleteByEmployeePkIn(@Param("ids") Collection<Long> ids);
+}
@@ -3,8 +3,13 @@ package com.project.employee_management.repository;
 import com.project.employee_management.entity.Employee;
 import com.project.employee_management.entity.Employee.EmployeeStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +21,11 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
      */
     Optional<Employee> findByEmployeeId(String employeeId);
 
+    /**
+     * Find employees by any of the given employee IDs
+     */
+    List<Employee> findByEmployeeIdIn(Collection<String> employeeIds);
+
     /**
      * Find employees by role
      */
@@ -45,4 +55,48 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
      * Check if employee ID already exists
      */
     boolean existsByEmployeeId(String employeeId);
+
+    /**
+     * Find employees holding the given email or employee ID, checking both unique keys in one query
+     */
+    @Query("SELECT e.email AS email, e.employeeId AS employeeId FROM Employee e " +
+            "WHERE e.email = :email OR e.employeeId = :employeeId")
+    List<UniqueKeys> findUniqueKeyConflicts(@Param("email") String email, @Param("employeeId") String employeeId);
+
+    /**
+     * Count employees per status
+     */
+    @Query("SELECT e.status AS status, COUNT(e) AS total FROM Employee e GROUP BY e.status")
+    List<StatusCount> countGroupedByStatus();
+
+    /**
+     * Set the status of many employees in a single statement, skipping rows updated after
+     * {@code acceptedAt} so a delayed bulk transition never overwrites a newer write, and
+     * rows already in that status so they are not recorded as changed
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Employee e SET e.status = :status, e.dateUpdated = :acceptedAt " +
+            "WHERE e.id IN :ids AND e.dateUpdated <= :acceptedAt AND e.status <> :status")
+    int updateStatusByIdIn(@Param("status") EmployeeStatus status,
+                           @Param("acceptedAt") LocalDateTime acceptedAt,
+                           @Param("ids") Collection<Long> ids);
+
+    /**
+     * Find which of the given employees were last updated at exactly the given time
+     */
+    @Query("SELECT e.id FROM Employee e WHERE e.id IN :ids AND e.dateUpdated = :dateUpdated")
+    List<Long> findIdsByIdInAndDateUpdated(@Param("ids") Collection<Long> ids,
+                                           @Param("dateUpdated") LocalDateTime dateUpdated);
+
+    interface UniqueKeys {
+        String getEmail();
+
+        String getEmployeeId();
+    }
+
+    interface StatusCount {
+        EmployeeStatus getStatus();
+
+        Long getTotal();
+    }
 }
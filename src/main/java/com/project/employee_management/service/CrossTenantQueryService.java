@@ -0,0 +1,11 @@
+package com.project.employee_management.service;
+
+import com.project.employee_management.dto.CrossTenantEmployees;
+import com.project.employee_management.dto.CrossTenantStats;
+
+public interface CrossTenantQueryService {
+
+    CrossTenantEmployees listEmployees();
+
+    CrossTenantStats countEmployeesByStatus();
+}
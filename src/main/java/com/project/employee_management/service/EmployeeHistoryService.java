@@ -0,0 +1,28 @@
+package com.project.employee_management.service;
+
+import com.project.employee_management.dto.EmployeeDTO;
+import com.project.employee_management.dto.EmployeeVersionDTO;
+import com.project.employee_management.entity.Employee;
+import com.project.employee_management.entity.EmployeeHistory.ChangeType;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface EmployeeHistoryService {
+
+    void recordVersion(Employee employee, ChangeType changeType);
+
+    void recordSnapshot(Collection<Long> ids, ChangeType changeType, LocalDateTime recordedAt);
+
+    void purge(Collection<Long> ids);
+
+    int recordBaseline();
+
+    List<EmployeeVersionDTO> getEmployeeHistory(Long id);
+
+    EmployeeDTO getEmployeeAsOf(Long id, LocalDateTime at);
+
+    Map<String, Long> countEmployeesByStatusAsOf(LocalDateTime at);
+}
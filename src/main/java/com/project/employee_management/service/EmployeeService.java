@@ -1,7 +1,9 @@
 package com.project.employee_management.service;
 
 import com.project.employee_management.dto.EmployeeDTO;
+import com.project.employee_management.dto.MultiGetResponse;
 import java.util.List;
+import java.util.Map;
 
 public interface EmployeeService {
     
@@ -9,6 +11,8 @@ public interface EmployeeService {
     
     EmployeeDTO getEmployeeById(Long id);
     
+    MultiGetResponse getEmployees(List<Long> ids, List<String> employeeIds);
+    
     EmployeeDTO updateEmployee(Long id, EmployeeDTO employeeDTO);
     
     void deleteEmployee(Long id);
@@ -18,4 +22,6 @@ public interface EmployeeService {
     List<EmployeeDTO> listEmployeesByRole(String role);
     
     List<EmployeeDTO> listEmployeesByStatus(String status);
+    
+    Map<String, Long> countEmployeesByStatus();
 }
@@ -0,0 +1,17 @@
+package com.project.employee_management.service;
+
+import com.project.employee_management.dto.RosterCountResponse;
+import com.project.employee_management.dto.RosterSnapshotInfo;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface RosterAnalyticsService {
+
+    RosterCountResponse countEmployees(List<String> groupBy, List<String> statuses, List<String> roles,
+                                       List<String> skills, LocalDate createdFrom, LocalDate createdTo, Boolean parallel);
+
+    RosterSnapshotInfo getSnapshotInfo();
+
+    RosterSnapshotInfo refreshSnapshot();
+}
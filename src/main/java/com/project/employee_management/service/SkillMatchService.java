@@ -0,0 +1,20 @@
+package com.project.employee_management.service;
+
+import com.project.employee_management.dto.SkillMatchResponse;
+import com.project.employee_management.entity.Employee;
+import com.project.employee_management.entity.Employee.EmployeeStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface SkillMatchService {
+
+    SkillMatchResponse matchEmployees(List<String> skills, List<String> statuses, List<String> roles, int limit);
+
+    void employeeSaved(Employee employee);
+
+    void employeeDeleted(Long id);
+
+    void statusChanged(Collection<Long> ids, EmployeeStatus status, LocalDateTime changedAt);
+}
@@ -0,0 +1,12 @@
+package com.project.employee_management.service;
+
+import com.project.employee_management.dto.StatusTransitionResponse;
+
+import java.util.List;
+
+public interface StatusTransitionService {
+
+    StatusTransitionResponse transitionStatus(List<Long> ids, String status);
+
+    int flush();
+}
@@ -0,0 +1,10 @@
+package com.project.employee_management.service;
+
+import com.project.employee_management.dto.WorkloadReport;
+
+import java.util.List;
+
+public interface WorkloadDiagnosticsService {
+
+    WorkloadReport runWorkload(int operationsPerLevel, double readRatio, List<Integer> concurrencyLevels);
+}
@@ -0,0 +1,135 @@
+package com.project.employee_management.service.impl;
+
+import com.project.employee_management.dto.CrossTenantEmployees;
+import com.project.employee_management.dto.CrossTenantStats;
+import com.project.employee_management.dto.EmployeeDTO;
+import com.project.employee_management.monitoring.QueryStats;
+import com.project.employee_management.monitoring.QueryStatsContext;
+import com.project.employee_management.monitoring.QueryStatsContext.Tracked;
+import com.project.employee_management.service.CrossTenantQueryService;
+import com.project.employee_management.service.EmployeeService;
+import com.project.employee_management.tenancy.TenancyProperties;
+import com.project.employee_management.tenancy.TenantContext;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Scatter-gather over the tenant shards: the query runs on every shard in parallel and
+ * shards that fail or miss the per-shard timeout are reported instead of failing the call.
+ * Statements run by the workers count toward the request's query budget; those of shards that
+ * time out are not counted.
+ * <p>
+ * Workers come from a fixed pool with a bounded queue, so a burst of cross-tenant calls cannot
+ * spawn unbounded threads; shards that do not fit are reported as rejected. Interrupting a
+ * worker does not stop a statement blocked in the driver, so each shard runs in a read-only
+ * transaction whose timeout (the shard timeout, rounded up to whole seconds as JDBC requires)
+ * Hibernate applies as the statements' query timeout.
+ */
+@Service
+@Slf4j
+public class CrossTenantQueryServiceImpl implements CrossTenantQueryService {
+
+    private final EmployeeService employeeService;
+    private final TenancyProperties properties;
+    private final TransactionTemplate shardTransaction;
+    private final ExecutorService executor;
+
+    public CrossTenantQueryServiceImpl(EmployeeService employeeService, TenancyProperties properties,
+                                       PlatformTransactionManager transactionManager) {
+        this.employeeService = employeeService;
+        this.properties = properties;
+        this.shardTransaction = new TransactionTemplate(transactionManager);
+        shardTransaction.setReadOnly(true);
+        shardTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(
+                properties.getShardTimeoutMs() + 999)));
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(properties.getScatterGatherThreads(),
+                properties.getScatterGatherThreads(), 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(properties.getScatterGatherQueueCapacity()), runnable -> {
+                    Thread thread = new Thread(runnable, "scatter-gather-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        pool.allowCoreThreadTimeOut(true);
+        this.executor = pool;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public CrossTenantEmployees listEmployees() {
+        log.debug("Listing employees across tenants");
+        Map<String, String> errors = new LinkedHashMap<>();
+        Map<String, List<EmployeeDTO>> tenants = scatterGather(employeeService::listEmployees, errors);
+        return new CrossTenantEmployees(tenants, errors);
+    }
+
+    @Override
+    public CrossTenantStats countEmployeesByStatus() {
+        log.debug("Counting employees by status across tenants");
+        Map<String, String> errors = new LinkedHashMap<>();
+        Map<String, Map<String, Long>> tenants = scatterGather(employeeService::countEmployeesByStatus, errors);
+
+        Map<String, Long> totals = new LinkedHashMap<>();
+        tenants.values().forEach(counts -> counts.forEach((status, count) -> totals.merge(status, count, Long::sum)));
+        return new CrossTenantStats(totals, tenants, errors);
+    }
+
+    private <T> Map<String, T> scatterGather(Supplier<T> query, Map<String, String> errors) {
+        QueryStats requestStats = QueryStatsContext.current();
+        Map<String, Future<Tracked<T>>> futures = new LinkedHashMap<>();
+        for (String tenant : properties.tenantIds()) {
+            try {
+                futures.put(tenant, executor.submit(() -> TenantContext.callAs(tenant,
+                        () -> QueryStatsContext.callTracked(requestStats,
+                                () -> shardTransaction.execute(status -> query.get())))));
+            } catch (RejectedExecutionException ex) {
+                log.warn("Shard '{}' rejected, scatter-gather pool and queue are full", tenant);
+                errors.put(tenant, "Rejected: too many concurrent cross-tenant queries");
+            }
+        }
+
+        // Shards run concurrently, so they share one deadline rather than waiting in turn
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getShardTimeoutMs());
+        Map<String, T> results = new LinkedHashMap<>();
+        futures.forEach((tenant, future) -> {
+            try {
+                results.put(tenant, future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)
+                        .addTo(requestStats));
+            } catch (TimeoutException ex) {
+                future.cancel(true);
+                log.warn("Shard '{}' timed out after {} ms", tenant, properties.getShardTimeoutMs());
+                errors.put(tenant, "Timed out after " + properties.getShardTimeoutMs() + " ms");
+            } catch (ExecutionException ex) {
+                log.error("Shard '{}' failed: {}", tenant, ex.getCause().getMessage());
+                errors.put(tenant, "Failed: " + ex.getCause().getMessage());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                errors.put(tenant, "Interrupted");
+            }
+        });
+        return results;
+    }
+}
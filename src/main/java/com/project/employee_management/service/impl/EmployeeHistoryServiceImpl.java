@@ -0,0 +1,130 @@
+package com.project.employee_management.service.impl;
+
+import com.project.employee_management.dto.EmployeeDTO;
+import com.project.employee_management.dto.EmployeeVersionDTO;
+import com.project.employee_management.entity.Employee;
+import com.project.employee_management.entity.Employee.EmployeeStatus;
+import com.project.employee_management.entity.EmployeeHistory;
+import com.project.employee_management.entity.EmployeeHistory.ChangeType;
+import com.project.employee_management.exception.ResourceNotFoundException;
+import com.project.employee_management.repository.EmployeeHistoryRepository;
+import com.project.employee_management.service.EmployeeHistoryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only employee history with validity ranges.
+ * <p>
+ * Versions are written in the caller's transaction, so a change and its version commit or
+ * roll back together. Appending closes the employee's open version (one UPDATE) and copies
+ * the current row as the new open version (one INSERT ... SELECT); creations skip the UPDATE,
+ * and status-transition chunks run both once per chunk. Point-in-time reads are range
+ * predicates on {@code [valid_from, valid_to)} instead of a search for each employee's
+ * latest version.
+ * <p>
+ * Cost per write, on top of the change itself: a create runs one more statement (the
+ * INSERT ... SELECT); an update or delete runs two (closing UPDATE and INSERT ... SELECT),
+ * and an update's own UPDATE is flushed before them rather than at commit; a write-behind
+ * status chunk runs two for the whole chunk. The INSERT ... SELECT reads the employee row by
+ * primary key and the previous version's end through the
+ * {@code (employee_pk, valid_from, valid_to)} index. {@code EmployeeHistoryWriteCostTest}
+ * ({@code -Dbenchmark=true}) checks these statement counts and reports the time they add to
+ * create and update on the target machine.
+ */
+@Service
+@Slf4j
+@Transactional
+public class EmployeeHistoryServiceImpl implements EmployeeHistoryService {
+
+    private final EmployeeHistoryRepository historyRepository;
+
+    public EmployeeHistoryServiceImpl(EmployeeHistoryRepository historyRepository) {
+        this.historyRepository = historyRepository;
+    }
+
+    @Override
+    public void recordVersion(Employee employee, ChangeType changeType) {
+        // The version is copied from the row, so pending changes to it have to reach the database first
+        historyRepository.flush();
+        recordSnapshot(List.of(employee.getId()), changeType, LocalDateTime.now());
+    }
+
+    @Override
+    public void recordSnapshot(Collection<Long> ids, ChangeType changeType, LocalDateTime recordedAt) {
+        if (changeType != ChangeType.CREATE) {
+            historyRepository.closeCurrentVersions(ids, recordedAt, EmployeeHistory.OPEN_END);
+        }
+        historyRepository.appendVersions(ids, changeType.name(), recordedAt, EmployeeHistory.OPEN_END);
+    }
+
+    @Override
+    public void purge(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        int removed = historyRepository.deleteByEmployeePkIn(ids);
+        log.debug("Removed {} history versions of {} employees", removed, ids.size());
+    }
+
+    @Override
+    public int recordBaseline() {
+        int recorded = historyRepository.snapshotUntracked(EmployeeHistory.OPEN_END);
+        log.info("Recorded baseline history for {} employees", recorded);
+        return recorded;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeVersionDTO> getEmployeeHistory(Long id) {
+        log.debug("Fetching history of employee with id: {}", id);
+
+        List<EmployeeHistory> versions = historyRepository.findByEmployeePkOrderByValidFromAscIdAsc(id);
+        if (versions.isEmpty()) {
+            throw new ResourceNotFoundException("No history found for employee with id: " + id);
+        }
+        return versions.stream()
+                .map(version -> new EmployeeVersionDTO(version.getChangeType().name(), version.getValidFrom(),
+                        EmployeeHistory.OPEN_END.equals(version.getValidTo()) ? null : version.getValidTo(),
+                        toDto(version)))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EmployeeDTO getEmployeeAsOf(Long id, LocalDateTime at) {
+        log.debug("Fetching employee with id: {} as of {}", id, at);
+
+        return historyRepository.findVersionAsOf(id, at)
+                .filter(version -> version.getChangeType() != ChangeType.DELETE)
+                .map(EmployeeHistoryServiceImpl::toDto)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee with id: " + id + " did not exist at " + at));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Long> countEmployeesByStatusAsOf(LocalDateTime at) {
+        log.debug("Counting employees by status as of {}", at);
+
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (EmployeeStatus status : EmployeeStatus.values()) {
+            counts.put(status.name(), 0L);
+        }
+        historyRepository.countGroupedByStatusAsOf(at, ChangeType.DELETE)
+                .forEach(count -> counts.put(count.getStatus().name(), count.getTotal()));
+        return counts;
+    }
+
+    private static EmployeeDTO toDto(EmployeeHistory version) {
+        return new EmployeeDTO(version.getEmployeePk(), version.getEmployeeId(), version.getFirstName(),
+                version.getLastName(), version.getEmail(), version.getRole(), version.getStatus().name(),
+                version.getPrimarySkill(), version.getSecondarySkill(), version.getDateCreated(),
+                version.getValidFrom());
+    }
+}
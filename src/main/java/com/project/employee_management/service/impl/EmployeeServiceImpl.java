@@ -1,17 +1,30 @@
 package com.project.employee_management.service.impl;
 
 import com.project.employee_management.dto.EmployeeDTO;
+import com.project.employee_management.dto.MultiGetResponse;
+import com.project.employee_management.dto.MultiGetResult;
 import com.project.employee_management.entity.Employee;
 import com.project.employee_management.entity.Employee.EmployeeStatus;
+import com.project.employee_management.entity.EmployeeHistory.ChangeType;
 import com.project.employee_management.exception.ResourceNotFoundException;
 import com.project.employee_management.repository.EmployeeRepository;
+import com.project.employee_management.repository.EmployeeRepository.UniqueKeys;
+import com.project.employee_management.service.EmployeeHistoryService;
 import com.project.employee_management.service.EmployeeService;
+import com.project.employee_management.service.SkillMatchService;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,25 +32,33 @@ import java.util.stream.Collectors;
 @Transactional
 public class EmployeeServiceImpl implements EmployeeService {
 
+    static final int MULTI_GET_MAX_KEYS = 5000;
+    static final int MULTI_GET_CHUNK_SIZE = 1000;
+
     private final EmployeeRepository employeeRepository;
     private final ModelMapper modelMapper;
+    private final SkillMatchService skillMatchService;
+    private final EmployeeHistoryService historyService;
 
-    public EmployeeServiceImpl(EmployeeRepository employeeRepository, ModelMapper modelMapper) {
+    public EmployeeServiceImpl(EmployeeRepository employeeRepository, ModelMapper modelMapper,
+                               SkillMatchService skillMatchService, EmployeeHistoryService historyService) {
         this.employeeRepository = employeeRepository;
         this.modelMapper = modelMapper;
+        this.skillMatchService = skillMatchService;
+        this.historyService = historyService;
     }
 
     @Override
     public EmployeeDTO createEmployee(EmployeeDTO employeeDTO) {
         log.debug("Creating new employee with employeeId: {}", employeeDTO.getEmployeeId());
         
-        // Check if email already exists
-        if (employeeRepository.existsByEmail(employeeDTO.getEmail())) {
+        // Check email and employee ID in one query; a taken email is reported first
+        List<UniqueKeys> conflicts = employeeRepository.findUniqueKeyConflicts(employeeDTO.getEmail(),
+                employeeDTO.getEmployeeId());
+        if (conflicts.stream().anyMatch(conflict -> conflict.getEmail().equals(employeeDTO.getEmail()))) {
             throw new IllegalArgumentException("Email already exists: " + employeeDTO.getEmail());
         }
-        
-        // Check if employee ID already exists
-        if (employeeRepository.existsByEmployeeId(employeeDTO.getEmployeeId())) {
+        if (!conflicts.isEmpty()) {
             throw new IllegalArgumentException("Employee ID already exists: " + employeeDTO.getEmployeeId());
         }
         
@@ -45,6 +66,8 @@ public class EmployeeServiceImpl implements EmployeeService {
         employee.setStatus(EmployeeStatus.valueOf(employeeDTO.getStatus()));
         
         Employee savedEmployee = employeeRepository.save(employee);
+        historyService.recordVersion(savedEmployee, ChangeType.CREATE);
+        skillMatchService.employeeSaved(savedEmployee);
         log.info("Employee created successfully with id: {}", savedEmployee.getId());
         
         return modelMapper.map(savedEmployee, EmployeeDTO.class);
@@ -64,6 +87,45 @@ public class EmployeeServiceImpl implements EmployeeService {
         return dto;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public MultiGetResponse getEmployees(List<Long> ids, List<String> employeeIds) {
+        List<Long> requestedIds = ids != null ? ids : List.of();
+        List<String> requestedEmployeeIds = employeeIds != null ? employeeIds : List.of();
+        log.debug("Fetching {} employees by id and {} by employeeId", requestedIds.size(), requestedEmployeeIds.size());
+        
+        if (requestedIds.isEmpty() && requestedEmployeeIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one id or employeeId is required");
+        }
+        if (requestedIds.size() + requestedEmployeeIds.size() > MULTI_GET_MAX_KEYS) {
+            throw new IllegalArgumentException("At most " + MULTI_GET_MAX_KEYS + " keys can be fetched per request");
+        }
+        
+        // Duplicate keys are queried once, but still answered at every position they were requested
+        Map<Long, EmployeeDTO> byId = new HashMap<>();
+        for (List<Long> chunk : chunks(new LinkedHashSet<>(requestedIds))) {
+            employeeRepository.findAllById(chunk).forEach(employee -> byId.put(employee.getId(), toDto(employee)));
+        }
+        Map<String, EmployeeDTO> byEmployeeId = new HashMap<>();
+        for (List<String> chunk : chunks(new LinkedHashSet<>(requestedEmployeeIds))) {
+            employeeRepository.findByEmployeeIdIn(chunk)
+                    .forEach(employee -> byEmployeeId.put(employee.getEmployeeId(), toDto(employee)));
+        }
+        
+        List<MultiGetResult> results = new ArrayList<>(requestedIds.size() + requestedEmployeeIds.size());
+        for (Long id : requestedIds) {
+            EmployeeDTO dto = byId.get(id);
+            results.add(new MultiGetResult(id, null, dto != null, dto));
+        }
+        for (String employeeId : requestedEmployeeIds) {
+            EmployeeDTO dto = byEmployeeId.get(employeeId);
+            results.add(new MultiGetResult(null, employeeId, dto != null, dto));
+        }
+        int found = (int) results.stream().filter(MultiGetResult::isFound).count();
+        
+        return new MultiGetResponse(found, results.size() - found, results);
+    }
+
     @Override
     public EmployeeDTO updateEmployee(Long id, EmployeeDTO employeeDTO) {
         log.debug("Updating employee with id: {}", id);
@@ -94,6 +156,8 @@ public class EmployeeServiceImpl implements EmployeeService {
         existingEmployee.setSecondarySkill(employeeDTO.getSecondarySkill());
         
         Employee updatedEmployee = employeeRepository.save(existingEmployee);
+        historyService.recordVersion(updatedEmployee, ChangeType.UPDATE);
+        skillMatchService.employeeSaved(updatedEmployee);
         log.info("Employee updated successfully with id: {}", updatedEmployee.getId());
         
         EmployeeDTO dto = modelMapper.map(updatedEmployee, EmployeeDTO.class);
@@ -110,7 +174,10 @@ public class EmployeeServiceImpl implements EmployeeService {
             throw new ResourceNotFoundException("Employee not found with id: " + id);
         }
         
+        // Snapshot the row before it goes, so the last known state stays queryable
+        historyService.recordSnapshot(List.of(id), ChangeType.DELETE, LocalDateTime.now());
         employeeRepository.deleteById(id);
+        skillMatchService.employeeDeleted(id);
         log.info("Employee deleted successfully with id: {}", id);
     }
 
@@ -156,4 +223,33 @@ public class EmployeeServiceImpl implements EmployeeService {
                 })
                 .collect(Collectors.toList());
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Long> countEmployeesByStatus() {
+        log.debug("Counting employees by status");
+        
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (EmployeeStatus status : EmployeeStatus.values()) {
+            counts.put(status.name(), 0L);
+        }
+        employeeRepository.countGroupedByStatus()
+                .forEach(count -> counts.put(count.getStatus().name(), count.getTotal()));
+        return counts;
+    }
+
+    private EmployeeDTO toDto(Employee employee) {
+        EmployeeDTO dto = modelMapper.map(employee, EmployeeDTO.class);
+        dto.setStatus(employee.getStatus().name());
+        return dto;
+    }
+
+    private static <T> List<List<T>> chunks(Collection<T> keys) {
+        List<T> list = new ArrayList<>(keys);
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += MULTI_GET_CHUNK_SIZE) {
+            chunks.add(list.subList(from, Math.min(from + MULTI_GET_CHUNK_SIZE, list.size())));
+        }
+        return chunks;
+    }
 }
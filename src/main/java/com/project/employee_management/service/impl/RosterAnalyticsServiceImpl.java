@@ -0,0 +1,157 @@
+package com.project.employee_management.service.impl;
+
+import com.project.employee_management.dto.RosterCountResponse;
+import com.project.employee_management.dto.RosterGroupDTO;
+import com.project.employee_management.dto.RosterSnapshotInfo;
+import com.project.employee_management.entity.Employee.EmployeeStatus;
+import com.project.employee_management.service.RosterAnalyticsService;
+import com.project.employee_management.service.impl.RosterSnapshot.Dimension;
+import com.project.employee_management.tenancy.TenancyProperties;
+import com.project.employee_management.tenancy.TenantContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Roster analytics over a per-tenant {@link RosterSnapshot}.
+ * <p>
+ * Snapshots are rebuilt from a single JDBC scan every
+ * {@code employee.analytics.refresh-interval-ms}, so results may lag writes by up to that
+ * interval; every response carries the snapshot time.
+ */
+@Service
+@Slf4j
+public class RosterAnalyticsServiceImpl implements RosterAnalyticsService {
+
+    private static final String LOAD_SQL =
+            "SELECT role, status, primary_skill, secondary_skill, date_created FROM employees";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TenancyProperties tenancyProperties;
+    private final int parallelThreshold;
+    private final Map<String, TenantSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    public RosterAnalyticsServiceImpl(JdbcTemplate jdbcTemplate, TenancyProperties tenancyProperties,
+                                      @Value("${employee.analytics.parallel-threshold:500000}") int parallelThreshold) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tenancyProperties = tenancyProperties;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${employee.analytics.refresh-interval-ms:60000}",
+            initialDelayString = "${employee.analytics.refresh-interval-ms:60000}")
+    public void refreshAll() {
+        for (String tenant : tenancyProperties.tenantIds()) {
+            try {
+                TenantContext.runAs(tenant, this::refreshSnapshot);
+            } catch (RuntimeException ex) {
+                log.error("Roster snapshot refresh failed for tenant '{}', keeping the previous one: {}",
+                        tenant, ex.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public RosterCountResponse countEmployees(List<String> groupBy, List<String> statuses, List<String> roles,
+                                              List<String> skills, LocalDate createdFrom, LocalDate createdTo,
+                                              Boolean parallel) {
+        List<Dimension> dimensions = groupBy.stream()
+                .map(name -> Dimension.valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_')))
+                .distinct()
+                .toList();
+        List<EmployeeStatus> employeeStatuses = statuses.stream().map(EmployeeStatus::valueOf).toList();
+        if (createdFrom != null && createdTo != null && !createdFrom.isBefore(createdTo)) {
+            throw new IllegalArgumentException("createdFrom must be before createdTo");
+        }
+        RosterSnapshot.Query query = new RosterSnapshot.Query(dimensions, employeeStatuses, Set.copyOf(roles),
+                Set.copyOf(skills),
+                createdFrom != null ? RosterSnapshot.epochSecond(createdFrom.atStartOfDay()) : Long.MIN_VALUE,
+                createdTo != null ? RosterSnapshot.epochSecond(createdTo.atStartOfDay()) : Long.MAX_VALUE);
+
+        TenantSnapshot current = currentSnapshot();
+        boolean runParallel = parallel != null ? parallel : current.snapshot().rows() >= parallelThreshold;
+        long start = System.nanoTime();
+        RosterSnapshot.Result result = current.snapshot().count(query, runParallel);
+        double scanMillis = (System.nanoTime() - start) / 1_000_000.0;
+        log.debug("Counted {} of {} employees into {} groups in {} ms",
+                result.matched(), result.scanned(), result.groups().size(), scanMillis);
+
+        List<RosterGroupDTO> groups = result.groups().stream()
+                .map(group -> {
+                    Map<String, String> key = new LinkedHashMap<>();
+                    group.key().forEach((dimension, value) -> key.put(dimension.name(), value));
+                    return new RosterGroupDTO(key, group.count());
+                })
+                .toList();
+        return new RosterCountResponse(dimensions.stream().map(Dimension::name).toList(), current.builtAt(),
+                result.scanned(), result.matched(), runParallel, scanMillis, groups);
+    }
+
+    @Override
+    public RosterSnapshotInfo getSnapshotInfo() {
+        return info(TenantContext.getTenant(), currentSnapshot());
+    }
+
+    @Override
+    public RosterSnapshotInfo refreshSnapshot() {
+        String tenant = TenantContext.getTenant();
+        TenantSnapshot snapshot = build();
+        snapshots.put(tenant, snapshot);
+        log.info("Roster snapshot for tenant '{}' rebuilt with {} employees ({} bytes off-heap) in {} ms",
+                tenant, snapshot.snapshot().rows(), snapshot.snapshot().offHeapBytes(), snapshot.buildMillis());
+        return info(tenant, snapshot);
+    }
+
+    private TenantSnapshot currentSnapshot() {
+        String tenant = TenantContext.getTenant();
+        TenantSnapshot current = snapshots.get(tenant);
+        if (current != null) {
+            return current;
+        }
+        // Queries that arrive before the first scheduled build take the snapshot themselves. The
+        // scan runs outside the map so it does not block other tenants' entries; if several race,
+        // the first one stored wins
+        TenantSnapshot built = build();
+        TenantSnapshot existing = snapshots.putIfAbsent(tenant, built);
+        return existing != null ? existing : built;
+    }
+
+    private TenantSnapshot build() {
+        LocalDateTime builtAt = LocalDateTime.now();
+        long start = System.nanoTime();
+        RosterSnapshot.Builder builder = RosterSnapshot.builder();
+        jdbcTemplate.query(LOAD_SQL, resultSet -> {
+            builder.add(resultSet.getString("role"),
+                    EmployeeStatus.valueOf(resultSet.getString("status")),
+                    resultSet.getString("primary_skill"),
+                    resultSet.getString("secondary_skill"),
+                    RosterSnapshot.epochSecond(resultSet.getTimestamp("date_created").toLocalDateTime()));
+        });
+        RosterSnapshot snapshot = builder.build();
+        return new TenantSnapshot(snapshot, builtAt, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static RosterSnapshotInfo info(String tenant, TenantSnapshot current) {
+        RosterSnapshot snapshot = current.snapshot();
+        double bytesPerRow = snapshot.rows() == 0 ? 0 : (double) snapshot.offHeapBytes() / snapshot.rows();
+        return new RosterSnapshotInfo(tenant, snapshot.rows(), snapshot.offHeapBytes(), bytesPerRow,
+                snapshot.roleCount(), snapshot.skillCount(), current.builtAt(), current.buildMillis());
+    }
+
+    private record TenantSnapshot(RosterSnapshot snapshot, LocalDateTime builtAt, long buildMillis) {
+    }
+}
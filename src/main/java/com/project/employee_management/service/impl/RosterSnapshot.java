@@ -0,0 +1,392 @@
+package com.project.employee_management.service.impl;
+
+import com.project.employee_management.entity.Employee.EmployeeStatus;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Immutable, column-oriented copy of the employee roster for analytics.
+ * <p>
+ * Every column lives in a direct (off-heap) buffer: role and skills as int codes into
+ * per-snapshot dictionaries, status as one byte, and the creation time as epoch seconds
+ * (UTC). Group-by counts scan the columns in a plain loop without touching entities or
+ * DTOs; large snapshots can be split across the common fork-join pool. Snapshots are never
+ * mutated, so a refresh builds a new one and swaps it in, and the old buffers are released
+ * once the last query using them is done.
+ * <p>
+ * Roles and skills are matched case-insensitively, like {@link SkillMatchIndex}: spellings
+ * that differ only in case or surrounding blanks share a code, reported in the first spelling
+ * seen, and filters are normalized the same way.
+ */
+class RosterSnapshot {
+
+    static final int MAX_GROUPS = 1 << 22;
+
+    private static final int NONE = -1;
+    private static final int MIN_ROWS_PER_TASK = 1 << 16;
+    private static final EmployeeStatus[] STATUSES = EmployeeStatus.values();
+
+    enum Dimension {
+        STATUS,
+        ROLE,
+        PRIMARY_SKILL,
+        SECONDARY_SKILL,
+        CREATED_MONTH
+    }
+
+    private final int rows;
+    private final String[] roleDictionary;
+    private final String[] skillDictionary;
+    private final IntBuffer roleColumn;
+    private final IntBuffer primarySkillColumn;
+    private final IntBuffer secondarySkillColumn;
+    private final ByteBuffer statusColumn;
+    private final LongBuffer createdColumn;
+    private final long offHeapBytes;
+    private final int minMonth;
+    private final int maxMonth;
+
+    private RosterSnapshot(Builder builder) {
+        this.rows = builder.size;
+        this.roleDictionary = builder.roles.toArray(new String[0]);
+        this.skillDictionary = builder.skills.toArray(new String[0]);
+
+        ByteBuffer roles = allocate(rows * Integer.BYTES);
+        ByteBuffer primarySkills = allocate(rows * Integer.BYTES);
+        ByteBuffer secondarySkills = allocate(rows * Integer.BYTES);
+        ByteBuffer statuses = allocate(rows);
+        ByteBuffer created = allocate(rows * Long.BYTES);
+        this.roleColumn = roles.asIntBuffer().put(builder.role, 0, rows);
+        this.primarySkillColumn = primarySkills.asIntBuffer().put(builder.primarySkill, 0, rows);
+        this.secondarySkillColumn = secondarySkills.asIntBuffer().put(builder.secondarySkill, 0, rows);
+        this.statusColumn = statuses.put(builder.status, 0, rows);
+        this.createdColumn = created.asLongBuffer().put(builder.created, 0, rows);
+        this.offHeapBytes = (long) roles.capacity() + primarySkills.capacity() + secondarySkills.capacity()
+                + statuses.capacity() + created.capacity();
+
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int row = 0; row < rows; row++) {
+            int month = monthIndex(builder.created[row]);
+            min = Math.min(min, month);
+            max = Math.max(max, month);
+        }
+        this.minMonth = rows == 0 ? 0 : min;
+        this.maxMonth = rows == 0 ? 0 : max;
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    int rows() {
+        return rows;
+    }
+
+    long offHeapBytes() {
+        return offHeapBytes;
+    }
+
+    int roleCount() {
+        return roleDictionary.length;
+    }
+
+    int skillCount() {
+        return skillDictionary.length;
+    }
+
+    /**
+     * Counts the rows matching {@code query}, grouped by its dimensions. Groups are returned
+     * largest first (ties in key order); with no dimensions there is a single group.
+     */
+    Result count(Query query, boolean parallel) {
+        Plan plan = new Plan(query);
+        Partial partial = parallel && rows >= 2 * MIN_ROWS_PER_TASK
+                ? ForkJoinPool.commonPool().invoke(new ScanTask(plan, 0, rows,
+                Math.max(MIN_ROWS_PER_TASK, rows / (ForkJoinPool.getCommonPoolParallelism() * 4))))
+                : plan.scan(0, rows);
+
+        List<Group> groups = new ArrayList<>();
+        long[] counts = partial.counts();
+        for (int key = 0; key < counts.length; key++) {
+            if (counts[key] > 0) {
+                groups.add(new Group(plan.decode(key), counts[key]));
+            }
+        }
+        groups.sort(Comparator.comparingLong(Group::count).reversed());
+        return new Result(rows, partial.matched(), groups);
+    }
+
+    /**
+     * Months since year 0 of an epoch second (UTC), from Howard Hinnant's civil-from-days
+     * algorithm, so month bucketing needs no date objects inside the scan.
+     */
+    static int monthIndex(long epochSecond) {
+        long days = Math.floorDiv(epochSecond, 86_400L) + 719_468;
+        long era = Math.floorDiv(days, 146_097);
+        long dayOfEra = days - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        long month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return (int) (year * 12 + month - 1);
+    }
+
+    static long epochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static ByteBuffer allocate(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    private static boolean[] allowed(String[] dictionary, Collection<String> values) {
+        if (values.isEmpty()) {
+            return null;
+        }
+        Set<String> normalized = new HashSet<>();
+        values.forEach(value -> normalized.add(normalize(value)));
+        boolean[] allowed = new boolean[dictionary.length];
+        for (int code = 0; code < dictionary.length; code++) {
+            allowed[code] = normalized.contains(normalize(dictionary[code]));
+        }
+        return allowed;
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A query compiled against this snapshot's dictionaries: filters become lookup tables
+     * indexed by code, and the group key is a mixed-radix number over the dimensions.
+     */
+    private final class Plan {
+
+        private final boolean[] statusAllowed;
+        private final boolean[] roleAllowed;
+        private final boolean[] skillAllowed;
+        private final long createdFrom;
+        private final long createdTo;
+        private final Dimension[] dimensions;
+        private final int[] radix;
+        private final int groups;
+
+        private Plan(Query query) {
+            if (query.statuses().isEmpty()) {
+                statusAllowed = null;
+            } else {
+                statusAllowed = new boolean[STATUSES.length];
+                for (EmployeeStatus status : query.statuses()) {
+                    statusAllowed[status.ordinal()] = true;
+                }
+            }
+            roleAllowed = allowed(roleDictionary, query.roles());
+            skillAllowed = allowed(skillDictionary, query.skills());
+            createdFrom = query.createdFrom();
+            createdTo = query.createdTo();
+
+            dimensions = query.groupBy().toArray(new Dimension[0]);
+            radix = new int[dimensions.length];
+            long product = 1;
+            for (int d = 0; d < dimensions.length; d++) {
+                radix[d] = switch (dimensions[d]) {
+                    case STATUS -> STATUSES.length;
+                    case ROLE -> Math.max(1, roleDictionary.length);
+                    case PRIMARY_SKILL -> Math.max(1, skillDictionary.length);
+                    case SECONDARY_SKILL -> skillDictionary.length + 1;
+                    case CREATED_MONTH -> maxMonth - minMonth + 1;
+                };
+                product *= radix[d];
+                if (product > MAX_GROUPS) {
+                    throw new IllegalArgumentException("Grouping by " + query.groupBy()
+                            + " produces more than " + MAX_GROUPS + " groups");
+                }
+            }
+            groups = (int) product;
+        }
+
+        private Partial scan(int from, int to) {
+            long[] counts = new long[groups];
+            long matched = 0;
+            for (int row = from; row < to; row++) {
+                if (statusAllowed != null && !statusAllowed[statusColumn.get(row)]) {
+                    continue;
+                }
+                if (roleAllowed != null && !roleAllowed[roleColumn.get(row)]) {
+                    continue;
+                }
+                if (skillAllowed != null) {
+                    int secondary = secondarySkillColumn.get(row);
+                    if (!skillAllowed[primarySkillColumn.get(row)] && (secondary == NONE || !skillAllowed[secondary])) {
+                        continue;
+                    }
+                }
+                long created = createdColumn.get(row);
+                if (created < createdFrom || created >= createdTo) {
+                    continue;
+                }
+
+                int key = 0;
+                for (int d = 0; d < dimensions.length; d++) {
+                    key = key * radix[d] + code(dimensions[d], row, created);
+                }
+                counts[key]++;
+                matched++;
+            }
+            return new Partial(counts, matched);
+        }
+
+        private int code(Dimension dimension, int row, long created) {
+            return switch (dimension) {
+                case STATUS -> statusColumn.get(row);
+                case ROLE -> roleColumn.get(row);
+                case PRIMARY_SKILL -> primarySkillColumn.get(row);
+                case SECONDARY_SKILL -> {
+                    int secondary = secondarySkillColumn.get(row);
+                    yield secondary == NONE ? skillDictionary.length : secondary;
+                }
+                case CREATED_MONTH -> monthIndex(created) - minMonth;
+            };
+        }
+
+        private Map<Dimension, String> decode(int key) {
+            String[] values = new String[dimensions.length];
+            for (int d = dimensions.length - 1; d >= 0; d--) {
+                int code = key % radix[d];
+                key /= radix[d];
+                values[d] = switch (dimensions[d]) {
+                    case STATUS -> STATUSES[code].name();
+                    case ROLE -> roleDictionary[code];
+                    case PRIMARY_SKILL -> skillDictionary[code];
+                    case SECONDARY_SKILL -> code == skillDictionary.length ? null : skillDictionary[code];
+                    case CREATED_MONTH -> {
+                        int month = minMonth + code;
+                        yield String.format("%04d-%02d", month / 12, month % 12 + 1);
+                    }
+                };
+            }
+            Map<Dimension, String> group = new LinkedHashMap<>();
+            for (int d = 0; d < dimensions.length; d++) {
+                group.put(dimensions[d], values[d]);
+            }
+            return group;
+        }
+    }
+
+    private final class ScanTask extends RecursiveTask<Partial> {
+
+        private final Plan plan;
+        private final int from;
+        private final int to;
+        private final int rowsPerTask;
+
+        private ScanTask(Plan plan, int from, int to, int rowsPerTask) {
+            this.plan = plan;
+            this.from = from;
+            this.to = to;
+            this.rowsPerTask = rowsPerTask;
+        }
+
+        @Override
+        protected Partial compute() {
+            if (to - from <= rowsPerTask) {
+                return plan.scan(from, to);
+            }
+            int middle = (from + to) >>> 1;
+            ScanTask left = new ScanTask(plan, from, middle, rowsPerTask);
+            left.fork();
+            Partial right = new ScanTask(plan, middle, to, rowsPerTask).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    private record Partial(long[] counts, long matched) {
+
+        private Partial merge(Partial other) {
+            for (int key = 0; key < counts.length; key++) {
+                counts[key] += other.counts[key];
+            }
+            return new Partial(counts, matched + other.matched);
+        }
+    }
+
+    /**
+     * Filters are ANDed; an empty collection means no filter. {@code skills} matches either
+     * skill column. The creation range is {@code [createdFrom, createdTo)} in epoch seconds.
+     */
+    record Query(List<Dimension> groupBy, Collection<EmployeeStatus> statuses, Collection<String> roles,
+                 Collection<String> skills, long createdFrom, long createdTo) {
+    }
+
+    record Group(Map<Dimension, String> key, long count) {
+    }
+
+    record Result(long scanned, long matched, List<Group> groups) {
+    }
+
+    static final class Builder {
+
+        private final Map<String, Integer> roleCodes = new HashMap<>();
+        private final Map<String, Integer> skillCodes = new HashMap<>();
+        private final List<String> roles = new ArrayList<>();
+        private final List<String> skills = new ArrayList<>();
+        private int[] role = new int[1024];
+        private int[] primarySkill = new int[1024];
+        private int[] secondarySkill = new int[1024];
+        private byte[] status = new byte[1024];
+        private long[] created = new long[1024];
+        private int size;
+
+        private Builder() {
+        }
+
+        Builder add(String role, EmployeeStatus status, String primarySkill, String secondarySkill, long createdEpochSecond) {
+            if (size == this.role.length) {
+                int capacity = size * 2;
+                this.role = Arrays.copyOf(this.role, capacity);
+                this.primarySkill = Arrays.copyOf(this.primarySkill, capacity);
+                this.secondarySkill = Arrays.copyOf(this.secondarySkill, capacity);
+                this.status = Arrays.copyOf(this.status, capacity);
+                this.created = Arrays.copyOf(this.created, capacity);
+            }
+            this.role[size] = encode(roleCodes, roles, role);
+            this.primarySkill[size] = encode(skillCodes, skills, primarySkill);
+            this.secondarySkill[size] = secondarySkill == null || secondarySkill.isBlank() ? NONE : encode(skillCodes, skills, secondarySkill);
+            this.status[size] = (byte) status.ordinal();
+            this.created[size] = createdEpochSecond;
+            size++;
+            return this;
+        }
+
+        RosterSnapshot build() {
+            return new RosterSnapshot(this);
+        }
+
+        private static int encode(Map<String, Integer> codes, List<String> dictionary, String value) {
+            return codes.computeIfAbsent(normalize(value), key -> {
+                dictionary.add(value);
+                return dictionary.size() - 1;
+            });
+        }
+    }
+}
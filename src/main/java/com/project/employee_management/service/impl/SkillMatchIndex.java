@@ -0,0 +1,309 @@
+package com.project.employee_management.service.impl;
+
+import com.project.employee_management.entity.Employee.EmployeeStatus;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over employee skills, role and status.
+ * <p>
+ * Skill and role strings are dictionary-encoded to ints (case-insensitively) and every
+ * value owns a compressed Roaring bitmap of employee ids, so a staffing query is a handful
+ * of bitmap ORs and ANDs. The last indexed values of each employee are kept in flat arrays
+ * indexed by id, which is what makes updates and deletes cheap.
+ * <p>
+ * Those arrays are dense, so their size follows the largest id indexed, not the number of
+ * employees: 29 bytes per id from 0 up to it, however sparse the ids are. Ids outside
+ * {@code [0, MAX_ID]} cannot be array indexes and are ignored; callers check
+ * {@link #indexable} up front and log the ones they skip.
+ * <p>
+ * Every change carries a version (the employee's {@code date_updated}), and the version of
+ * an employee's fields and of its status are tracked separately, so changes applied out of
+ * order never replace newer values: an older {@link #put} still updates role and skills if
+ * they are newer than what is indexed, but keeps a newer status. Removal is final.
+ */
+class SkillMatchIndex {
+
+    static final int PRIMARY_SKILL_SCORE = 2;
+    static final int SECONDARY_SKILL_SCORE = 1;
+    /**
+     * Largest id that still fits the per-id arrays (the VM's practical array size limit)
+     */
+    static final long MAX_ID = Integer.MAX_VALUE - 9;
+
+    private static final int NONE = -1;
+    private static final long REMOVED = Long.MAX_VALUE;
+    private static final EmployeeStatus[] STATUSES = EmployeeStatus.values();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> skillCodes = new HashMap<>();
+    private final Map<String, Integer> roleCodes = new HashMap<>();
+    private final List<RoaringBitmap> primarySkillBitmaps = new ArrayList<>();
+    private final List<RoaringBitmap> secondarySkillBitmaps = new ArrayList<>();
+    private final List<RoaringBitmap> roleBitmaps = new ArrayList<>();
+    private final RoaringBitmap[] statusBitmaps = new RoaringBitmap[STATUSES.length];
+
+    private int[] primarySkillOf = new int[0];
+    private int[] secondarySkillOf = new int[0];
+    private int[] roleOf = new int[0];
+    private byte[] statusOf = new byte[0];
+    private long[] fieldsVersionOf = new long[0];
+    private long[] statusVersionOf = new long[0];
+
+    SkillMatchIndex() {
+        for (int i = 0; i < statusBitmaps.length; i++) {
+            statusBitmaps[i] = new RoaringBitmap();
+        }
+    }
+
+    /**
+     * Index (or re-index) an employee as of {@code version}. Ignored if newer fields are
+     * already indexed or the employee was removed.
+     */
+    void put(long employeeId, long version, String role, EmployeeStatus status,
+             String primarySkill, String secondarySkill) {
+        if (!indexable(employeeId)) {
+            return;
+        }
+        int id = (int) employeeId;
+        lock.writeLock().lock();
+        try {
+            ensureCapacity(id);
+            if (version < fieldsVersionOf[id]) {
+                return;
+            }
+            removeLocked(id);
+            EmployeeStatus indexedStatus = status;
+            if (version < statusVersionOf[id]) {
+                indexedStatus = STATUSES[statusOf[id]];
+            } else {
+                statusVersionOf[id] = version;
+            }
+            fieldsVersionOf[id] = version;
+
+            int roleCode = encode(roleCodes, roleBitmaps, null, role);
+            int primaryCode = encode(skillCodes, primarySkillBitmaps, secondarySkillBitmaps, primarySkill);
+            int secondaryCode = secondarySkill == null || secondarySkill.isBlank()
+                    ? NONE
+                    : encode(skillCodes, primarySkillBitmaps, secondarySkillBitmaps, secondarySkill);
+
+            roleBitmaps.get(roleCode).add(id);
+            primarySkillBitmaps.get(primaryCode).add(id);
+            if (secondaryCode != NONE) {
+                secondarySkillBitmaps.get(secondaryCode).add(id);
+            }
+            statusBitmaps[indexedStatus.ordinal()].add(id);
+
+            roleOf[id] = roleCode;
+            primarySkillOf[id] = primaryCode;
+            secondarySkillOf[id] = secondaryCode;
+            statusOf[id] = (byte) indexedStatus.ordinal();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Move employees to {@code status} as of {@code version}, skipping those whose indexed
+     * status is newer. A status for an employee that is not indexed yet is kept for when it is.
+     */
+    void updateStatus(Collection<Long> employeeIds, EmployeeStatus status, long version) {
+        lock.writeLock().lock();
+        try {
+            for (Long employeeId : employeeIds) {
+                if (!indexable(employeeId)) {
+                    continue;
+                }
+                int id = (int) (long) employeeId;
+                ensureCapacity(id);
+                if (version < statusVersionOf[id]) {
+                    continue;
+                }
+                if (roleOf[id] != NONE) {
+                    statusBitmaps[statusOf[id]].remove(id);
+                    statusBitmaps[status.ordinal()].add(id);
+                }
+                statusOf[id] = (byte) status.ordinal();
+                statusVersionOf[id] = version;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drop an employee for good; later puts and status changes for it are ignored.
+     */
+    void remove(long employeeId) {
+        if (!indexable(employeeId)) {
+            return;
+        }
+        int id = (int) employeeId;
+        lock.writeLock().lock();
+        try {
+            ensureCapacity(id);
+            removeLocked(id);
+            fieldsVersionOf[id] = REMOVED;
+            statusVersionOf[id] = REMOVED;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    static boolean indexable(long employeeId) {
+        return employeeId >= 0 && employeeId <= MAX_ID;
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            int size = 0;
+            for (RoaringBitmap bitmap : statusBitmaps) {
+                size += bitmap.getCardinality();
+            }
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Employees whose primary or secondary skill is one of {@code skills}, optionally
+     * restricted to the given statuses and roles (empty means any). Results are ranked by
+     * score (primary match 2, secondary match 1) and then by id.
+     */
+    MatchResult match(Collection<String> skills, Collection<EmployeeStatus> statuses,
+                      Collection<String> roles, int limit) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap primary = union(lookup(skillCodes, primarySkillBitmaps, skills));
+            RoaringBitmap secondary = union(lookup(skillCodes, secondarySkillBitmaps, skills));
+
+            RoaringBitmap filter = null;
+            if (!statuses.isEmpty()) {
+                List<RoaringBitmap> statusMatches = new ArrayList<>();
+                statuses.forEach(status -> statusMatches.add(statusBitmaps[status.ordinal()]));
+                filter = union(statusMatches);
+            }
+            if (!roles.isEmpty()) {
+                RoaringBitmap roleFilter = union(lookup(roleCodes, roleBitmaps, roles));
+                filter = filter == null ? roleFilter : RoaringBitmap.and(filter, roleFilter);
+            }
+            if (filter != null) {
+                primary.and(filter);
+                secondary.and(filter);
+            }
+
+            RoaringBitmap both = RoaringBitmap.and(primary, secondary);
+            RoaringBitmap primaryOnly = RoaringBitmap.andNot(primary, secondary);
+            RoaringBitmap secondaryOnly = RoaringBitmap.andNot(secondary, primary);
+            long total = both.getLongCardinality() + primaryOnly.getLongCardinality() + secondaryOnly.getLongCardinality();
+
+            List<Match> matches = new ArrayList<>(Math.min(limit, (int) Math.min(total, Integer.MAX_VALUE)));
+            collect(both, PRIMARY_SKILL_SCORE + SECONDARY_SKILL_SCORE, limit, matches);
+            collect(primaryOnly, PRIMARY_SKILL_SCORE, limit, matches);
+            collect(secondaryOnly, SECONDARY_SKILL_SCORE, limit, matches);
+            return new MatchResult(total, matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(int id) {
+        if (roleOf[id] == NONE) {
+            return;
+        }
+        roleBitmaps.get(roleOf[id]).remove(id);
+        primarySkillBitmaps.get(primarySkillOf[id]).remove(id);
+        if (secondarySkillOf[id] != NONE) {
+            secondarySkillBitmaps.get(secondarySkillOf[id]).remove(id);
+        }
+        statusBitmaps[statusOf[id]].remove(id);
+        roleOf[id] = NONE;
+    }
+
+    private void ensureCapacity(int id) {
+        if (id < statusOf.length) {
+            return;
+        }
+        int capacity = Math.max(id + 1, statusOf.length * 3 / 2 + 16);
+        int oldLength = statusOf.length;
+        primarySkillOf = Arrays.copyOf(primarySkillOf, capacity);
+        secondarySkillOf = Arrays.copyOf(secondarySkillOf, capacity);
+        roleOf = Arrays.copyOf(roleOf, capacity);
+        statusOf = Arrays.copyOf(statusOf, capacity);
+        fieldsVersionOf = Arrays.copyOf(fieldsVersionOf, capacity);
+        statusVersionOf = Arrays.copyOf(statusVersionOf, capacity);
+        Arrays.fill(roleOf, oldLength, capacity, NONE);
+        Arrays.fill(fieldsVersionOf, oldLength, capacity, Long.MIN_VALUE);
+        Arrays.fill(statusVersionOf, oldLength, capacity, Long.MIN_VALUE);
+    }
+
+    /**
+     * Returns the code of {@code value}, assigning the next code (and empty bitmaps) on first sight.
+     */
+    private static int encode(Map<String, Integer> codes, List<RoaringBitmap> bitmaps,
+                              List<RoaringBitmap> siblingBitmaps, String value) {
+        return codes.computeIfAbsent(normalize(value), key -> {
+            bitmaps.add(new RoaringBitmap());
+            if (siblingBitmaps != null) {
+                siblingBitmaps.add(new RoaringBitmap());
+            }
+            return bitmaps.size() - 1;
+        });
+    }
+
+    private static List<RoaringBitmap> lookup(Map<String, Integer> codes, List<RoaringBitmap> bitmaps,
+                                              Collection<String> values) {
+        List<RoaringBitmap> matches = new ArrayList<>(values.size());
+        for (String value : values) {
+            Integer code = codes.get(normalize(value));
+            if (code != null) {
+                matches.add(bitmaps.get(code));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Always returns a new bitmap, so callers may modify the result in place.
+     */
+    private static RoaringBitmap union(List<RoaringBitmap> bitmaps) {
+        if (bitmaps.isEmpty()) {
+            return new RoaringBitmap();
+        }
+        if (bitmaps.size() == 1) {
+            return bitmaps.get(0).clone();
+        }
+        return FastAggregation.or(bitmaps.toArray(new RoaringBitmap[0]));
+    }
+
+    private static void collect(RoaringBitmap bitmap, int score, int limit, List<Match> matches) {
+        IntIterator ids = bitmap.getIntIterator();
+        while (matches.size() < limit && ids.hasNext()) {
+            matches.add(new Match(ids.next(), score));
+        }
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    record Match(long employeeId, int score) {
+    }
+
+    record MatchResult(long total, List<Match> matches) {
+    }
+}
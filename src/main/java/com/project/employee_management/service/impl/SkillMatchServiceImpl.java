@@ -0,0 +1,241 @@
+package com.project.employee_management.service.impl;
+
+import com.project.employee_management.dto.EmployeeDTO;
+import com.project.employee_management.dto.EmployeeMatchDTO;
+import com.project.employee_management.dto.SkillMatchResponse;
+import com.project.employee_management.entity.Employee;
+import com.project.employee_management.entity.Employee.EmployeeStatus;
+import com.project.employee_management.repository.EmployeeRepository;
+import com.project.employee_management.service.SkillMatchService;
+import com.project.employee_management.tenancy.TenancyProperties;
+import com.project.employee_management.tenancy.TenantContext;
+import lombok.extern.slf4j.Slf4j;
+import org.modelmapper.ModelMapper;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Staffing queries over a per-tenant {@link SkillMatchIndex}.
+ * <p>
+ * The index is loaded once the application is ready and then kept in sync by the
+ * employee and status-transition services. Changes are applied after their transaction
+ * commits, so a rolled-back write never shows up in match results, and are versioned by the
+ * employee's {@code date_updated}, so callbacks that run out of order cannot replace a newer
+ * value with an older one. The index is also rebuilt every
+ * {@code employee.skill-match.refresh-interval-ms} to pick up writes that bypass this
+ * service; changes committed during a rebuild are applied to both indexes, and the scanned
+ * rows never override them.
+ * <p>
+ * Ids the index cannot hold (see {@link SkillMatchIndex#MAX_ID}) are logged and left out of
+ * match results rather than failing the write; so is any failure to apply a change after
+ * commit, which the next rebuild repairs.
+ */
+@Service
+@Slf4j
+public class SkillMatchServiceImpl implements SkillMatchService {
+
+    private static final int MAX_LIMIT = 1000;
+    private static final String LOAD_SQL =
+            "SELECT id, role, status, primary_skill, secondary_skill, date_updated FROM employees";
+
+    private final EmployeeRepository employeeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ModelMapper modelMapper;
+    private final TenancyProperties tenancyProperties;
+    private final Map<String, SkillMatchIndex> indexes = new ConcurrentHashMap<>();
+    private final Map<String, SkillMatchIndex> rebuilding = new ConcurrentHashMap<>();
+
+    public SkillMatchServiceImpl(EmployeeRepository employeeRepository, JdbcTemplate jdbcTemplate,
+                                 ModelMapper modelMapper, TenancyProperties tenancyProperties) {
+        this.employeeRepository = employeeRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.modelMapper = modelMapper;
+        this.tenancyProperties = tenancyProperties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${employee.skill-match.refresh-interval-ms:300000}",
+            initialDelayString = "${employee.skill-match.refresh-interval-ms:300000}")
+    public void loadIndexes() {
+        for (String tenant : tenancyProperties.tenantIds()) {
+            try {
+                rebuild(tenant);
+            } catch (RuntimeException ex) {
+                log.error("Skill match index rebuild failed for tenant '{}', keeping the previous one: {}",
+                        tenant, ex.getMessage());
+            }
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SkillMatchResponse matchEmployees(List<String> skills, List<String> statuses, List<String> roles, int limit) {
+        if (skills.isEmpty()) {
+            throw new IllegalArgumentException("At least one skill is required");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        List<EmployeeStatus> employeeStatuses = statuses.stream().map(EmployeeStatus::valueOf).toList();
+
+        long start = System.nanoTime();
+        SkillMatchIndex.MatchResult result = indexFor(TenantContext.getTenant())
+                .match(skills, employeeStatuses, roles, limit);
+        log.debug("Skill match for {} found {} employees in {} us",
+                skills, result.total(), (System.nanoTime() - start) / 1_000);
+
+        List<Long> ids = result.matches().stream().map(SkillMatchIndex.Match::employeeId).toList();
+        Map<Long, Employee> employees = employeeRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Employee::getId, Function.identity()));
+
+        List<EmployeeMatchDTO> matches = new ArrayList<>(ids.size());
+        for (SkillMatchIndex.Match match : result.matches()) {
+            Employee employee = employees.get(match.employeeId());
+            if (employee != null) {
+                EmployeeDTO dto = modelMapper.map(employee, EmployeeDTO.class);
+                dto.setStatus(employee.getStatus().name());
+                matches.add(new EmployeeMatchDTO(match.score(), dto));
+            }
+        }
+        return new SkillMatchResponse(result.total(), matches);
+    }
+
+    @Override
+    public void employeeSaved(Employee employee) {
+        long id = employee.getId();
+        if (!indexable(id)) {
+            return;
+        }
+        long version = version(employee.getDateUpdated());
+        String role = employee.getRole();
+        EmployeeStatus status = employee.getStatus();
+        String primarySkill = employee.getPrimarySkill();
+        String secondarySkill = employee.getSecondarySkill();
+        afterCommit(TenantContext.getTenant(),
+                index -> index.put(id, version, role, status, primarySkill, secondarySkill));
+    }
+
+    @Override
+    public void employeeDeleted(Long id) {
+        if (!indexable(id)) {
+            return;
+        }
+        afterCommit(TenantContext.getTenant(), index -> index.remove(id));
+    }
+
+    @Override
+    public void statusChanged(Collection<Long> ids, EmployeeStatus status, LocalDateTime changedAt) {
+        List<Long> changedIds = ids.stream().filter(SkillMatchServiceImpl::indexable).toList();
+        long version = version(changedAt);
+        afterCommit(TenantContext.getTenant(), index -> index.updateStatus(changedIds, status, version));
+    }
+
+    /**
+     * Load a fresh index for the tenant and swap it in. It is registered before the scan, so
+     * every change committed from then on reaches it as well as the index being replaced.
+     */
+    private void rebuild(String tenant) {
+        long start = System.nanoTime();
+        SkillMatchIndex index = new SkillMatchIndex();
+        long[] skipped = new long[1];
+        rebuilding.put(tenant, index);
+        try {
+            TenantContext.runAs(tenant, () -> jdbcTemplate.query(LOAD_SQL, resultSet -> {
+                long id = resultSet.getLong("id");
+                if (!SkillMatchIndex.indexable(id)) {
+                    skipped[0]++;
+                    return;
+                }
+                index.put(id,
+                        version(resultSet.getObject("date_updated", LocalDateTime.class)),
+                        resultSet.getString("role"),
+                        EmployeeStatus.valueOf(resultSet.getString("status")),
+                        resultSet.getString("primary_skill"),
+                        resultSet.getString("secondary_skill"));
+            }));
+            indexes.put(tenant, index);
+        } finally {
+            rebuilding.remove(tenant);
+        }
+        if (skipped[0] > 0) {
+            log.warn("Skill match index for tenant '{}' skipped {} employees with ids above {}",
+                    tenant, skipped[0], SkillMatchIndex.MAX_ID);
+        }
+        log.info("Skill match index for tenant '{}' loaded with {} employees in {} ms",
+                tenant, index.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private SkillMatchIndex indexFor(String tenant) {
+        return indexes.computeIfAbsent(tenant, key -> new SkillMatchIndex());
+    }
+
+    /**
+     * Apply a change to the tenant's index, and to the one being rebuilt if any. The rebuild
+     * is looked up first: if it has already been swapped in, the live index is then that one.
+     */
+    private void apply(String tenant, Consumer<SkillMatchIndex> change) {
+        SkillMatchIndex next = rebuilding.get(tenant);
+        SkillMatchIndex current = indexFor(tenant);
+        change.accept(current);
+        if (next != null && next != current) {
+            change.accept(next);
+        }
+    }
+
+    private void afterCommit(String tenant, Consumer<SkillMatchIndex> change) {
+        afterCommit(() -> {
+            // The write has committed by now, so a failure here must not fail the request
+            try {
+                apply(tenant, change);
+            } catch (RuntimeException ex) {
+                log.error("Could not update the skill match index for tenant '{}', the next rebuild will: {}",
+                        tenant, ex.getMessage());
+            }
+        });
+    }
+
+    private static boolean indexable(Long id) {
+        if (SkillMatchIndex.indexable(id)) {
+            return true;
+        }
+        log.warn("Employee {} not indexed for skill match, ids above {} are not supported", id, SkillMatchIndex.MAX_ID);
+        return false;
+    }
+
+    /**
+     * Microseconds since the epoch, the precision {@code date_updated} is stored with
+     */
+    private static long version(LocalDateTime timestamp) {
+        return timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + timestamp.getNano() / 1_000;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
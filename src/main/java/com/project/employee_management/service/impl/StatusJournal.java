@@ -0,0 +1,272 @@
+package com.project.employee_management.service.impl;
+
+import com.project.employee_management.entity.Employee.EmployeeStatus;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Append-only journal behind the status write-behind buffer.
+ * <p>
+ * Each accepted transition is forced to disk before it is acknowledged. Appends only write;
+ * {@link #sync} forces them outside the journal's lock, and one force covers every append
+ * made before it started, so concurrent requests share an fsync (group commit) instead of
+ * queueing for one each. During a flush the
+ * active file is rotated to a "flushing" file that is only deleted once the batch has been
+ * committed, so a crash at any point leaves every unflushed transition on disk for replay.
+ * <p>
+ * The directory is locked for as long as the journal is open, so two processes (or two
+ * application contexts in one JVM) can never replay or delete each other's entries.
+ */
+@Slf4j
+class StatusJournal {
+
+    private static final String ACTIVE_FILE = "status.journal";
+    private static final String FLUSHING_FILE = "status.journal.flushing";
+    private static final String LOCK_FILE = "status.journal.lock";
+
+    private final Path activePath;
+    private final Path flushingPath;
+    private final FileChannel lockChannel;
+    private final Object forceLock = new Object();
+    private final AtomicLong forcedSequence = new AtomicLong();
+    private long writtenSequence;
+    private FileChannel channel;
+
+    StatusJournal(Path directory) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not create status journal directory: " + directory, ex);
+        }
+        this.activePath = directory.resolve(ACTIVE_FILE);
+        this.flushingPath = directory.resolve(FLUSHING_FILE);
+        this.lockChannel = lock(directory);
+    }
+
+    /**
+     * Replays the flushing and active files (later entries win) and consolidates them
+     * into a fresh active file.
+     */
+    synchronized Map<Long, Entry> recover() {
+        Map<Long, Entry> entries = new LinkedHashMap<>();
+        readInto(flushingPath, entries);
+        readInto(activePath, entries);
+
+        closeChannel();
+        Path tmpPath = activePath.resolveSibling(ACTIVE_FILE + ".tmp");
+        try (FileChannel tmp = FileChannel.open(tmpPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(tmp, entries);
+            tmp.force(false);
+            Files.move(tmpPath, activePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.deleteIfExists(flushingPath);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not consolidate status journal", ex);
+        }
+        return entries;
+    }
+
+    /**
+     * Writes the entries without forcing them; pass the returned sequence to {@link #sync}
+     * before acknowledging them.
+     */
+    synchronized long append(Map<Long, Entry> entries) {
+        if (entries.isEmpty()) {
+            return writtenSequence;
+        }
+        try {
+            write(channel(), entries);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not append to status journal", ex);
+        }
+        return ++writtenSequence;
+    }
+
+    /**
+     * Returns once every append up to {@code sequence} is on disk. Callers that arrive while a
+     * force is running wait for it and then force everything appended in the meantime at once.
+     */
+    void sync(long sequence) {
+        synchronized (forceLock) {
+            if (forcedSequence.get() >= sequence) {
+                return;
+            }
+            FileChannel target;
+            long upTo;
+            synchronized (this) {
+                target = channel;
+                upTo = writtenSequence;
+            }
+            try {
+                if (target != null) {
+                    target.force(false);
+                }
+            } catch (ClosedChannelException ex) {
+                // Rotated or closed meanwhile; closing forces the file first unless that failed
+                if (forcedSequence.get() >= sequence) {
+                    return;
+                }
+                throw new UncheckedIOException("Status journal was closed before it could be forced", ex);
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Could not force status journal to disk", ex);
+            }
+            forcedSequence.accumulateAndGet(upTo, Math::max);
+        }
+    }
+
+    /**
+     * Moves the active file aside so new transitions go to a fresh file while a batch is flushed.
+     */
+    synchronized void rotate() {
+        closeChannel();
+        try {
+            if (Files.exists(activePath)) {
+                Files.move(activePath, flushingPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not rotate status journal", ex);
+        }
+    }
+
+    /**
+     * Discards the rotated file once its batch has been committed to the database.
+     */
+    synchronized void commit() {
+        try {
+            Files.deleteIfExists(flushingPath);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not discard flushed status journal", ex);
+        }
+    }
+
+    synchronized void close() {
+        closeChannel();
+        try {
+            // Closing the channel releases the directory lock
+            lockChannel.close();
+        } catch (IOException ex) {
+            log.warn("Could not release status journal lock: {}", ex.getMessage());
+        }
+    }
+
+    private static FileChannel lock(Path directory) {
+        FileChannel lockChannel = null;
+        try {
+            lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE);
+            FileLock lock = lockChannel.tryLock();
+            if (lock == null) {
+                throw new IllegalStateException("Status journal directory " + directory
+                        + " is locked by another process; give every instance its own journal-dir");
+            }
+            return lockChannel;
+        } catch (OverlappingFileLockException ex) {
+            closeQuietly(lockChannel);
+            throw new IllegalStateException("Status journal directory " + directory
+                    + " is already open in this JVM; give every application context its own journal-dir", ex);
+        } catch (IOException ex) {
+            closeQuietly(lockChannel);
+            throw new UncheckedIOException("Could not lock status journal directory: " + directory, ex);
+        } catch (RuntimeException ex) {
+            closeQuietly(lockChannel);
+            throw ex;
+        }
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // Already failing with a more useful exception
+        }
+    }
+
+    private FileChannel channel() throws IOException {
+        if (channel == null) {
+            channel = FileChannel.open(activePath, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        return channel;
+    }
+
+    /**
+     * Forces the file before closing it, so appends not yet synced stay durable once rotated.
+     */
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.force(false);
+            forcedSequence.accumulateAndGet(writtenSequence, Math::max);
+            channel.close();
+        } catch (IOException ex) {
+            log.warn("Could not close status journal: {}", ex.getMessage());
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // Already logged
+            }
+        }
+        channel = null;
+    }
+
+    private static void write(FileChannel target, Map<Long, Entry> entries) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        entries.forEach((id, entry) -> lines.append(id).append(',').append(entry.status().name())
+                .append(',').append(entry.acceptedAt()).append('\n'));
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+    }
+
+    private static void readInto(Path path, Map<Long, Entry> entries) {
+        if (!Files.exists(path)) {
+            return;
+        }
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read status journal: " + path, ex);
+        }
+        for (String line : lines) {
+            String[] fields = line.split(",", -1);
+            try {
+                Long id = Long.valueOf(fields[0]);
+                entries.put(id, new Entry(EmployeeStatus.valueOf(fields[1]), LocalDateTime.parse(fields[2])));
+            } catch (RuntimeException ex) {
+                // A torn final line from a crash mid-write was never acknowledged, so it is safe to drop
+                log.warn("Skipping malformed status journal entry: '{}'", line);
+            }
+        }
+    }
+
+    /**
+     * A journaled transition. {@code acceptedAt} is when it was acknowledged; a flush only
+     * applies it to rows that have not been updated since.
+     */
+    record Entry(EmployeeStatus status, LocalDateTime acceptedAt) {
+    }
+}
@@ -0,0 +1,222 @@
+package com.project.employee_management.service.impl;
+
+import com.project.employee_management.dto.StatusTransitionResponse;
+import com.project.employee_management.entity.Employee.EmployeeStatus;
+import com.project.employee_management.entity.EmployeeHistory.ChangeType;
+import com.project.employee_management.repository.EmployeeRepository;
+import com.project.employee_management.service.EmployeeHistoryService;
+import com.project.employee_management.service.SkillMatchService;
+import com.project.employee_management.service.StatusTransitionService;
+import com.project.employee_management.service.impl.StatusJournal.Entry;
+import com.project.employee_management.tenancy.TenancyProperties;
+import com.project.employee_management.tenancy.TenantContext;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Status transitions for bench management.
+ * <p>
+ * In ASYNC mode transitions are journaled, acknowledged and coalesced in memory (the last
+ * status per employee wins), then written on a schedule as one
+ * {@code UPDATE ... WHERE id IN (...)} per status and chunk. In SYNC mode the same bulk
+ * update runs before the request returns. Either way this skips the per-employee
+ * {@code findById}, uniqueness checks and full-row update of {@code PUT /employees/{id}}.
+ * <p>
+ * Every transition carries the time it was accepted, which becomes the row's
+ * {@code dateUpdated}. The flush only touches rows not updated since then, so a
+ * {@code PUT} or {@code DELETE} that commits while a transition is still buffered wins.
+ * <p>
+ * Each tenant has its own buffer and journal, and is flushed against its own shard.
+ */
+@Service
+@Slf4j
+public class StatusTransitionServiceImpl implements StatusTransitionService {
+
+    public enum WriteMode {
+        SYNC,
+        ASYNC
+    }
+
+    private final EmployeeRepository employeeRepository;
+    private final SkillMatchService skillMatchService;
+    private final EmployeeHistoryService historyService;
+    private final TransactionTemplate transactionTemplate;
+    private final WriteMode mode;
+    private final int batchSize;
+    private final Map<String, TenantBuffer> buffers = new LinkedHashMap<>();
+    private final Object flushLock = new Object();
+
+    public StatusTransitionServiceImpl(EmployeeRepository employeeRepository,
+                                       SkillMatchService skillMatchService,
+                                       EmployeeHistoryService historyService,
+                                       PlatformTransactionManager transactionManager,
+                                       TenancyProperties tenancyProperties,
+                                       @Value("${employee.status-write-behind.mode:ASYNC}") WriteMode mode,
+                                       @Value("${employee.status-write-behind.batch-size:500}") int batchSize,
+                                       @Value("${employee.status-write-behind.journal-dir}") String journalDir) {
+        this.employeeRepository = employeeRepository;
+        this.skillMatchService = skillMatchService;
+        this.historyService = historyService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.mode = mode;
+        this.batchSize = batchSize;
+        for (String tenant : tenancyProperties.tenantIds()) {
+            Path directory = TenantContext.DEFAULT_TENANT.equals(tenant)
+                    ? Path.of(journalDir)
+                    : Path.of(journalDir, "tenant-" + tenant);
+            buffers.put(tenant, new TenantBuffer(new StatusJournal(directory)));
+        }
+    }
+
+    @PostConstruct
+    void recoverJournal() {
+        buffers.forEach((tenant, buffer) -> {
+            Map<Long, Entry> recovered = buffer.journal.recover();
+            if (!recovered.isEmpty()) {
+                log.info("Recovered {} unflushed status transitions for tenant '{}' from journal", recovered.size(), tenant);
+                synchronized (buffer) {
+                    buffer.pending.putAll(recovered);
+                }
+            }
+        });
+        flush();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+        buffers.values().forEach(buffer -> buffer.journal.close());
+    }
+
+    @Override
+    public StatusTransitionResponse transitionStatus(List<Long> ids, String status) {
+        // Truncated to the column's precision, so the flush can find the rows it stamped
+        Entry target = new Entry(EmployeeStatus.valueOf(status), LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        Map<Long, Entry> transitions = new LinkedHashMap<>();
+        ids.forEach(id -> transitions.put(id, target));
+        log.debug("Transitioning {} employees to {} ({})", transitions.size(), target.status(), mode);
+        TenantBuffer buffer = buffers.get(TenantContext.getTenant());
+
+        if (mode == WriteMode.SYNC) {
+            // Drop any buffered transition for these ids so a later flush cannot overwrite this one
+            synchronized (buffer) {
+                transitions.keySet().forEach(buffer.pending::remove);
+            }
+            int applied = transactionTemplate.execute(tx -> applyBatch(transitions));
+            return new StatusTransitionResponse(transitions.size(), applied, mode.name());
+        }
+
+        long sequence;
+        synchronized (buffer) {
+            sequence = buffer.journal.append(transitions);
+            buffer.pending.putAll(transitions);
+        }
+        // Forced outside the buffer lock, so concurrent requests share one fsync
+        buffer.journal.sync(sequence);
+        return new StatusTransitionResponse(transitions.size(), 0, mode.name());
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${employee.status-write-behind.flush-interval-ms:500}")
+    public int flush() {
+        synchronized (flushLock) {
+            int applied = 0;
+            for (Map.Entry<String, TenantBuffer> entry : buffers.entrySet()) {
+                applied += TenantContext.callAs(entry.getKey(), () -> flush(entry.getKey(), entry.getValue()));
+            }
+            return applied;
+        }
+    }
+
+    private int flush(String tenant, TenantBuffer buffer) {
+        Map<Long, Entry> batch;
+        synchronized (buffer) {
+            if (buffer.pending.isEmpty()) {
+                return 0;
+            }
+            batch = new HashMap<>(buffer.pending);
+            buffer.pending.clear();
+            buffer.journal.rotate();
+        }
+
+        try {
+            int applied = transactionTemplate.execute(tx -> applyBatch(batch));
+            buffer.journal.commit();
+            log.debug("Flushed {} status transitions for tenant '{}' ({} rows updated)", batch.size(), tenant, applied);
+            return applied;
+        } catch (RuntimeException ex) {
+            log.error("Status flush failed for tenant '{}', re-queueing {} transitions: {}",
+                    tenant, batch.size(), ex.getMessage());
+            requeue(buffer, batch);
+            return 0;
+        }
+    }
+
+    private void requeue(TenantBuffer buffer, Map<Long, Entry> batch) {
+        synchronized (buffer) {
+            Map<Long, Entry> requeued = new HashMap<>();
+            // Transitions accepted while the flush was running are newer and must win
+            batch.forEach((id, entry) -> {
+                if (buffer.pending.putIfAbsent(id, entry) == null) {
+                    requeued.put(id, entry);
+                }
+            });
+            buffer.journal.sync(buffer.journal.append(requeued));
+            buffer.journal.commit();
+        }
+    }
+
+    private int applyBatch(Map<Long, Entry> transitions) {
+        // One UPDATE per status and accept time, since the accept time guards the update
+        Map<Entry, List<Long>> idsByEntry = new LinkedHashMap<>();
+        transitions.forEach((id, entry) -> idsByEntry.computeIfAbsent(entry, e -> new ArrayList<>()).add(id));
+
+        int applied = 0;
+        for (Map.Entry<Entry, List<Long>> group : idsByEntry.entrySet()) {
+            EmployeeStatus status = group.getKey().status();
+            LocalDateTime acceptedAt = group.getKey().acceptedAt();
+            List<Long> ids = group.getValue();
+            for (int from = 0; from < ids.size(); from += batchSize) {
+                List<Long> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+                int updated = employeeRepository.updateStatusByIdIn(status, acceptedAt, chunk);
+                if (updated == 0) {
+                    continue;
+                }
+                // Rows written since acceptance or already in the status were skipped; only the rest
+                // get a history version and an index update
+                List<Long> updatedIds = updated == chunk.size()
+                        ? chunk
+                        : employeeRepository.findIdsByIdInAndDateUpdated(chunk, acceptedAt);
+                historyService.recordSnapshot(updatedIds, ChangeType.STATUS_CHANGE, acceptedAt);
+                skillMatchService.statusChanged(updatedIds, status, acceptedAt);
+                applied += updated;
+            }
+        }
+        return applied;
+    }
+
+    private static final class TenantBuffer {
+
+        private final Map<Long, Entry> pending = new HashMap<>();
+        private final StatusJournal journal;
+
+        private TenantBuffer(StatusJournal journal) {
+            this.journal = journal;
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.project.employee_management.service.impl;
+
+import com.project.employee_management.dto.EmployeeDTO;
+import com.project.employee_management.dto.WorkloadLevelResult;
+import com.project.employee_management.dto.WorkloadReport;
+import com.project.employee_management.monitoring.QueryStats;
+import com.project.employee_management.monitoring.QueryStatsContext;
+import com.project.employee_management.service.EmployeeHistoryService;
+import com.project.employee_management.service.EmployeeService;
+import com.project.employee_management.service.WorkloadDiagnosticsService;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Replays a synthetic read/write mix against {@link EmployeeService} at increasing
+ * concurrency and derives pool and Hibernate settings from the measured latency,
+ * connection-pool saturation and the statements each operation ran (counted through the
+ * query budget's data source). Synthetic employees and their history are removed again
+ * after the run.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "employee.diagnostics.enabled", havingValue = "true")
+public class WorkloadDiagnosticsServiceImpl implements WorkloadDiagnosticsService {
+
+    private static final int FIXTURE_SIZE = 50;
+    static final double KNEE_THRESHOLD = 0.9;
+    static final int MAX_BATCH_SIZE = 50;
+    static final int MAX_BATCH_FETCH_SIZE = 64;
+
+    private final EmployeeService employeeService;
+    private final EmployeeHistoryService historyService;
+    private final DataSource dataSource;
+    private final Environment environment;
+
+    public WorkloadDiagnosticsServiceImpl(EmployeeService employeeService, EmployeeHistoryService historyService,
+                                         DataSource dataSource, Environment environment) {
+        this.employeeService = employeeService;
+        this.historyService = historyService;
+        this.dataSource = dataSource;
+        this.environment = environment;
+    }
+
+    @Override
+    public WorkloadReport runWorkload(int operationsPerLevel, double readRatio, List<Integer> concurrencyLevels) {
+        if (operationsPerLevel <= 0) {
+            throw new IllegalArgumentException("operations must be positive");
+        }
+        if (readRatio < 0 || readRatio > 1) {
+            throw new IllegalArgumentException("readRatio must be between 0 and 1");
+        }
+        if (concurrencyLevels.isEmpty() || concurrencyLevels.stream().anyMatch(level -> level <= 0)) {
+            throw new IllegalArgumentException("concurrency levels must be positive");
+        }
+        log.info("Running synthetic workload: {} ops/level, readRatio={}, levels={}",
+                operationsPerLevel, readRatio, concurrencyLevels);
+
+        HikariDataSource pool = unwrapPool();
+        ConcurrentLinkedQueue<Long> created = new ConcurrentLinkedQueue<>();
+        try {
+            List<Long> fixtureIds = new ArrayList<>();
+            for (int i = 0; i < FIXTURE_SIZE; i++) {
+                Long id = employeeService.createEmployee(syntheticEmployee()).getId();
+                fixtureIds.add(id);
+                created.add(id);
+            }
+
+            List<WorkloadLevelResult> levels = new ArrayList<>();
+            for (int concurrency : concurrencyLevels) {
+                levels.add(runLevel(concurrency, operationsPerLevel, readRatio, fixtureIds, created, pool));
+            }
+
+            int configuredPoolSize = pool != null ? pool.getMaximumPoolSize() : -1;
+            List<String> notes = new ArrayList<>();
+            boolean openInView = !"false".equalsIgnoreCase(environment.getProperty("spring.jpa.open-in-view"));
+            Map<String, String> recommendations = recommend(levels, readRatio, configuredPoolSize, openInView, notes);
+            return new WorkloadReport(operationsPerLevel, readRatio, configuredPoolSize, levels, recommendations, notes);
+        } finally {
+            created.forEach(id -> {
+                try {
+                    employeeService.deleteEmployee(id);
+                } catch (RuntimeException ex) {
+                    log.warn("Could not remove synthetic employee {}: {}", id, ex.getMessage());
+                }
+            });
+            try {
+                historyService.purge(new ArrayList<>(created));
+            } catch (RuntimeException ex) {
+                log.warn("Could not remove the history of synthetic employees: {}", ex.getMessage());
+            }
+        }
+    }
+
+    private WorkloadLevelResult runLevel(int concurrency, int operations, double readRatio, List<Long> fixtureIds,
+                                         ConcurrentLinkedQueue<Long> created, HikariDataSource pool) {
+        long[] latencies = new long[operations];
+        AtomicInteger errors = new AtomicInteger();
+        AtomicInteger peakActive = new AtomicInteger();
+        AtomicInteger peakPending = new AtomicInteger();
+        LongAdder reads = new LongAdder();
+        LongAdder readStatements = new LongAdder();
+        LongAdder writes = new LongAdder();
+        LongAdder writeStatements = new LongAdder();
+        AtomicInteger maxRepeatsPerRead = new AtomicInteger();
+        AtomicInteger maxRepeatsPerWrite = new AtomicInteger();
+
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        if (pool != null && pool.getHikariPoolMXBean() != null) {
+            HikariPoolMXBean poolBean = pool.getHikariPoolMXBean();
+            sampler.scheduleAtFixedRate(() -> {
+                peakActive.accumulateAndGet(poolBean.getActiveConnections(), Math::max);
+                peakPending.accumulateAndGet(poolBean.getThreadsAwaitingConnection(), Math::max);
+            }, 0, 5, TimeUnit.MILLISECONDS);
+        }
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>(operations);
+            for (int i = 0; i < operations; i++) {
+                int slot = i;
+                futures.add(workers.submit(() -> {
+                    boolean read = ThreadLocalRandom.current().nextDouble() < readRatio;
+                    QueryStats stats = QueryStatsContext.begin();
+                    long opStart = System.nanoTime();
+                    try {
+                        if (read) {
+                            employeeService.getEmployeeById(fixtureIds.get(ThreadLocalRandom.current().nextInt(fixtureIds.size())));
+                        } else {
+                            created.add(employeeService.createEmployee(syntheticEmployee()).getId());
+                        }
+                    } catch (RuntimeException ex) {
+                        errors.incrementAndGet();
+                    } finally {
+                        QueryStatsContext.end();
+                    }
+                    latencies[slot] = System.nanoTime() - opStart;
+
+                    // Shapes come back most executed first
+                    int repeats = stats.repeatedShapes(0).values().stream().findFirst().orElse(0);
+                    (read ? reads : writes).increment();
+                    (read ? readStatements : writeStatements).add(stats.getStatementCount());
+                    (read ? maxRepeatsPerRead : maxRepeatsPerWrite).accumulateAndGet(repeats, Math::max);
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Workload run interrupted", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Workload run failed", ex.getCause());
+        } finally {
+            workers.shutdownNow();
+            sampler.shutdownNow();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        double throughput = operations / (elapsed / 1_000_000_000.0);
+        return new WorkloadLevelResult(concurrency, throughput,
+                percentileMillis(latencies, 0.50), percentileMillis(latencies, 0.95), percentileMillis(latencies, 0.99),
+                peakActive.get(), peakPending.get(), errors.get(),
+                average(readStatements, reads), average(writeStatements, writes),
+                maxRepeatsPerRead.get(), maxRepeatsPerWrite.get());
+    }
+
+    /**
+     * Derives settings from the measured levels only; a setting the workload says nothing
+     * about is left out rather than guessed.
+     */
+    static Map<String, String> recommend(List<WorkloadLevelResult> levels, double readRatio, int configuredPoolSize,
+                                         boolean openInView, List<String> notes) {
+        Map<String, String> recommendations = new LinkedHashMap<>();
+
+        // The knee is the lowest concurrency that reaches most of the best throughput;
+        // beyond it extra connections only add queueing inside the database.
+        double bestThroughput = levels.stream().mapToDouble(WorkloadLevelResult::getThroughput).max().orElse(0);
+        WorkloadLevelResult knee = levels.stream()
+                .filter(level -> level.getThroughput() >= bestThroughput * KNEE_THRESHOLD)
+                .min((a, b) -> Integer.compare(a.getConcurrency(), b.getConcurrency()))
+                .orElse(levels.get(0));
+        int poolSize = Math.max(2, Math.max(knee.getConcurrency(), knee.getPeakActiveConnections()));
+        recommendations.put("spring.datasource.hikari.maximum-pool-size", String.valueOf(poolSize));
+        recommendations.put("spring.datasource.hikari.minimum-idle", String.valueOf(poolSize));
+        notes.add(String.format("Throughput reaches %.0f%% of its best (%.0f ops/s) at concurrency %d; "
+                        + "a pool of %d connections serves that without queueing.",
+                KNEE_THRESHOLD * 100, bestThroughput, knee.getConcurrency(), poolSize));
+
+        levels.stream()
+                .filter(level -> level.getPeakPendingThreads() > 0)
+                .findFirst()
+                .ifPresent(level -> notes.add(String.format(
+                        "Pool saturated at concurrency %d (%d threads waiting, pool size %d); "
+                                + "p95 rose to %.2f ms.",
+                        level.getConcurrency(), level.getPeakPendingThreads(), configuredPoolSize, level.getP95Millis())));
+
+        boolean statementsCounted = levels.stream()
+                .anyMatch(level -> level.getStatementsPerRead() > 0 || level.getStatementsPerWrite() > 0);
+        if (!statementsCounted) {
+            notes.add("No SQL statements were counted (employee.query-budget.enabled=false?), "
+                    + "so no batching settings are derived.");
+        } else {
+            recommendBatching(levels, readRatio, recommendations, notes);
+        }
+
+        if (openInView) {
+            recommendations.put("spring.jpa.open-in-view", "false");
+            notes.add("open-in-view keeps a connection checked out while the response is serialized; "
+                    + "the service already returns fully mapped DTOs, so it can be disabled.");
+        }
+        return recommendations;
+    }
+
+    /**
+     * JDBC batching only helps when one transaction flushes the same statement several times,
+     * and batch fetching only when a read repeats the same lookup (N+1); size both to the most
+     * repetitions seen.
+     */
+    private static void recommendBatching(List<WorkloadLevelResult> levels, double readRatio,
+                                          Map<String, String> recommendations, List<String> notes) {
+        if (readRatio < 1) {
+            int writeRepeats = levels.stream().mapToInt(WorkloadLevelResult::getMaxRepeatsPerWrite).max().orElse(0);
+            if (writeRepeats > 1) {
+                recommendations.put("spring.jpa.properties.hibernate.jdbc.batch_size",
+                        String.valueOf(Math.min(MAX_BATCH_SIZE, writeRepeats)));
+                recommendations.put("spring.jpa.properties.hibernate.order_inserts", "true");
+                recommendations.put("spring.jpa.properties.hibernate.order_updates", "true");
+                notes.add(String.format("A write transaction ran the same statement up to %d times; "
+                        + "JDBC batching can send those in one round trip.", writeRepeats));
+            } else {
+                notes.add("Each write transaction ran every statement once; JDBC batching would not group "
+                        + "anything, so hibernate.jdbc.batch_size is not recommended for this workload.");
+            }
+        }
+        if (readRatio > 0) {
+            int readRepeats = levels.stream().mapToInt(WorkloadLevelResult::getMaxRepeatsPerRead).max().orElse(0);
+            if (readRepeats > 1) {
+                recommendations.put("spring.jpa.properties.hibernate.default_batch_fetch_size",
+                        String.valueOf(Math.min(MAX_BATCH_FETCH_SIZE, readRepeats)));
+                notes.add(String.format("A read repeated the same statement up to %d times (N+1); "
+                        + "batch fetching loads those in one query.", readRepeats));
+            } else {
+                notes.add("Reads ran every statement once (no N+1), so "
+                        + "hibernate.default_batch_fetch_size is not recommended for this workload.");
+            }
+        }
+    }
+
+    private HikariDataSource unwrapPool() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException ex) {
+            log.warn("Could not inspect connection pool: {}", ex.getMessage());
+            return null;
+        }
+    }
+
+    private static double average(LongAdder total, LongAdder count) {
+        long operations = count.sum();
+        return operations == 0 ? 0 : (double) total.sum() / operations;
+    }
+
+    private static double percentileMillis(long[] sortedNanos, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static EmployeeDTO syntheticEmployee() {
+        String key = UUID.randomUUID().toString().replace("-", "").substring(0, 16);
+        EmployeeDTO dto = new EmployeeDTO();
+        dto.setEmployeeId("WL-" + key);
+        dto.setFirstName("Workload");
+        dto.setLastName("Synthetic");
+        dto.setEmail("workload." + key + "@diagnostics.local");
+        dto.setRole("Software Engineer");
+        dto.setStatus("ACTIVE");
+        dto.setPrimarySkill("Java");
+        return dto;
+    }
+}
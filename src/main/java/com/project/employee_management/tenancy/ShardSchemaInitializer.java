@@ -0,0 +1,42 @@
+package com.project.employee_management.tenancy;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate only generates the schema on the connection it bootstraps with, which is the
+ * default shard. With {@code ddl-auto=create*} the same schema is exported to every other shard.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "employee.tenancy.enabled", havingValue = "true")
+public class ShardSchemaInitializer implements SmartInitializingSingleton {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final TenancyProperties properties;
+    private final String ddlAuto;
+
+    public ShardSchemaInitializer(EntityManagerFactory entityManagerFactory, TenancyProperties properties,
+                                  @Value("${spring.jpa.hibernate.ddl-auto:none}") String ddlAuto) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.properties = properties;
+        this.ddlAuto = ddlAuto;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!ddlAuto.startsWith("create")) {
+            return;
+        }
+        properties.getShards().keySet().stream()
+                .filter(tenant -> !TenantContext.DEFAULT_TENANT.equals(tenant))
+                .forEach(tenant -> {
+                    log.info("Creating schema on shard '{}'", tenant);
+                    TenantContext.runAs(tenant, () -> entityManagerFactory.getSchemaManager().create(true));
+                });
+    }
+}
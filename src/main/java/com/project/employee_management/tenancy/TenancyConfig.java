@@ -0,0 +1,69 @@
+package com.project.employee_management.tenancy;
+
+import com.project.employee_management.config.HikariPools;
+import com.project.employee_management.replication.ReplicationConfig;
+import com.project.employee_management.replication.ReplicationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@EnableConfigurationProperties(TenancyProperties.class)
+@Slf4j
+public class TenancyConfig {
+
+    @Configuration
+    @ConditionalOnProperty(name = "employee.tenancy.enabled", havingValue = "true")
+    static class ShardingConfig implements WebMvcConfigurer {
+
+        private final TenancyProperties properties;
+        private final ReplicationProperties replicationProperties;
+        private final Binder binder;
+
+        ShardingConfig(TenancyProperties properties, ReplicationProperties replicationProperties,
+                       Environment environment) {
+            this.properties = properties;
+            this.replicationProperties = replicationProperties;
+            this.binder = Binder.get(environment);
+        }
+
+        @Bean
+        public TenantRoutingDataSource tenantRoutingDataSource() {
+            Map<String, DataSource> shards = new LinkedHashMap<>();
+            properties.getShards().forEach((tenant, shard) -> {
+                DataSource primary = HikariPools.create(binder, "shard-" + tenant, shard.getUrl(),
+                        shard.getUsername(), shard.getPassword(), shard.getMaximumPoolSize());
+                shards.put(tenant, ReplicationConfig.withReplicas("shard-" + tenant, primary,
+                        shard.getReplicas(), replicationProperties, binder));
+            });
+            log.info("Tenant sharding enabled with shards: {}", shards.keySet());
+            return new TenantRoutingDataSource(shards);
+        }
+
+        /**
+         * Lazy so that a shard with replicas sees the transaction's read-only flag when routing.
+         */
+        @Bean
+        @Primary
+        public DataSource dataSource(TenantRoutingDataSource tenantRoutingDataSource) {
+            return new LazyConnectionDataSourceProxy(tenantRoutingDataSource);
+        }
+
+        @Override
+        public void addInterceptors(InterceptorRegistry registry) {
+            registry.addInterceptor(new TenantInterceptor(properties));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.project.employee_management.tenancy;
+
+import com.project.employee_management.replication.ReplicationProperties;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Data
+@ConfigurationProperties(prefix = "employee.tenancy")
+public class TenancyProperties {
+
+    /**
+     * Route each request to the shard of its tenant. When disabled everything uses
+     * the single spring.datasource.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Request header carrying the tenant id. Requests without it use the "default" shard.
+     */
+    private String header = "X-Tenant-Id";
+
+    /**
+     * Per-shard timeout for cross-tenant (scatter-gather) queries.
+     */
+    private long shardTimeoutMs = 2000;
+
+    /**
+     * Worker threads shared by all cross-tenant queries.
+     */
+    private int scatterGatherThreads = 8;
+
+    /**
+     * Shard queries that may wait for a worker; beyond that they are rejected and reported.
+     */
+    private int scatterGatherQueueCapacity = 100;
+
+    /**
+     * Shards keyed by tenant id. Must contain a "default" shard when enabled.
+     */
+    private Map<String, Shard> shards = new LinkedHashMap<>();
+
+    public Set<String> tenantIds() {
+        return enabled ? shards.keySet() : Set.of(TenantContext.DEFAULT_TENANT);
+    }
+
+    @Data
+    public static class Shard {
+        private String url;
+        private String username = "sa";
+        private String password = "";
+
+        /**
+         * Pool size of this shard; spring.datasource.hikari.maximum-pool-size when unset.
+         */
+        private Integer maximumPoolSize;
+
+        /**
+         * Read replicas of this shard, used when employee.replication.enabled is true.
+         */
+        private List<ReplicationProperties.Node> replicas = new ArrayList<>();
+    }
+}
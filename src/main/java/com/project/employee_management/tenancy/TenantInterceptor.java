@@ -0,0 +1,37 @@
+package com.project.employee_management.tenancy;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Binds the tenant from the request header for the duration of the request.
+ * Runs inside the dispatcher so an unknown tenant is reported through
+ * {@code GlobalExceptionHandler} as a 400.
+ */
+public class TenantInterceptor implements HandlerInterceptor {
+
+    private final TenancyProperties properties;
+
+    public TenantInterceptor(TenancyProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String tenant = request.getHeader(properties.getHeader());
+        if (tenant == null || tenant.isBlank()) {
+            tenant = TenantContext.DEFAULT_TENANT;
+        }
+        if (!properties.getShards().containsKey(tenant)) {
+            throw new IllegalArgumentException("Unknown tenant: " + tenant);
+        }
+        TenantContext.setTenant(tenant);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        TenantContext.clear();
+    }
+}
@@ -0,0 +1,49 @@
+package com.project.employee_management.tenancy;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Routes every connection request to the shard of {@link TenantContext#getTenant()}.
+ * The tenant must be set before a transaction starts, since the connection is
+ * bound for the rest of the transaction.
+ */
+@Slf4j
+public class TenantRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private final Map<String, DataSource> shards;
+
+    public TenantRoutingDataSource(Map<String, DataSource> shards) {
+        if (!shards.containsKey(TenantContext.DEFAULT_TENANT)) {
+            throw new IllegalStateException("Tenancy requires a '" + TenantContext.DEFAULT_TENANT + "' shard");
+        }
+        this.shards = shards;
+        setTargetDataSources(new HashMap<>(shards));
+        setDefaultTargetDataSource(shards.get(TenantContext.DEFAULT_TENANT));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TenantContext.getTenant();
+    }
+
+    @Override
+    public void destroy() {
+        shards.forEach((tenant, dataSource) -> {
+            if (dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception ex) {
+                    log.warn("Could not close shard '{}': {}", tenant, ex.getMessage());
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,80 @@
+package com.project.employee_management.config;
+
+import com.project.employee_management.entity.Employee;
+import com.project.employee_management.entity.Employee.EmployeeStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeDataGeneratorTest {
+
+    private static final LocalDateTime REFERENCE_TIME = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Test
+    void next_SameSeed_ProducesSameEmployees() {
+        // Arrange
+        List<Employee> first = generate(1_000, 7L);
+        List<Employee> second = generate(1_000, 7L);
+
+        // Assert
+        assertEquals(first, second);
+    }
+
+    @Test
+    void next_EmployeeIdsAndEmails_AreUnique() {
+        // Act
+        List<Employee> employees = generate(20_000, 42L);
+
+        // Assert
+        Set<String> employeeIds = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        employees.forEach(employee -> {
+            employeeIds.add(employee.getEmployeeId());
+            emails.add(employee.getEmail());
+        });
+        assertEquals(employees.size(), employeeIds.size());
+        assertEquals(employees.size(), emails.size());
+    }
+
+    @Test
+    void next_StatusDistribution_FavoursActive() {
+        // Act
+        List<Employee> employees = generate(10_000, 42L);
+
+        // Assert
+        long active = employees.stream().filter(e -> e.getStatus() == EmployeeStatus.ACTIVE).count();
+        long bench = employees.stream().filter(e -> e.getStatus() == EmployeeStatus.BENCH).count();
+        assertTrue(active > 6_500 && active < 7_500, "ACTIVE share out of range: " + active);
+        assertTrue(bench > 1_700 && bench < 2_300, "BENCH share out of range: " + bench);
+    }
+
+    @Test
+    void next_RequiredFieldsAndTimestamps_ArePopulated() {
+        // Act
+        List<Employee> employees = generate(1_000, 42L);
+
+        // Assert
+        employees.forEach(employee -> {
+            assertNotNull(employee.getRole());
+            assertNotNull(employee.getPrimarySkill());
+            assertFalse(employee.getDateCreated().isAfter(REFERENCE_TIME));
+            assertFalse(employee.getDateUpdated().isBefore(employee.getDateCreated()));
+            assertFalse(employee.getDateUpdated().isAfter(REFERENCE_TIME));
+        });
+    }
+
+    private static List<Employee> generate(int count, long seed) {
+        EmployeeDataGenerator generator = new EmployeeDataGenerator(seed, REFERENCE_TIME);
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(generator.next());
+        }
+        return employees;
+    }
+}
@@ -0,0 +1,45 @@
+package com.project.employee_management.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HikariPoolsTest {
+
+    private final Binder binder = Binder.get(new MockEnvironment()
+            .withProperty("spring.datasource.hikari.auto-commit", "false")
+            .withProperty("spring.datasource.hikari.maximum-pool-size", "16")
+            .withProperty("spring.datasource.hikari.minimum-idle", "16")
+            .withProperty("spring.datasource.hikari.connection-timeout", "2000"));
+
+    @Test
+    void create_AppliesSharedHikariSettings() {
+        // Act
+        try (HikariDataSource dataSource = HikariPools.create(binder, "shard-retail", "jdbc:h2:mem:retail",
+                "sa", "", null)) {
+
+            // Assert
+            assertFalse(dataSource.isAutoCommit());
+            assertEquals(16, dataSource.getMaximumPoolSize());
+            assertEquals(16, dataSource.getMinimumIdle());
+            assertEquals(2000, dataSource.getConnectionTimeout());
+            assertEquals("shard-retail", dataSource.getPoolName());
+            assertEquals("jdbc:h2:mem:retail", dataSource.getJdbcUrl());
+        }
+    }
+
+    @Test
+    void create_NodePoolSize_OverridesSharedSetting() {
+        // Act
+        try (HikariDataSource dataSource = HikariPools.create(binder, "primary-replica-0", "jdbc:h2:mem:replica",
+                "sa", "", 4)) {
+
+            // Assert
+            assertEquals(4, dataSource.getMaximumPoolSize());
+            assertFalse(dataSource.isAutoCommit());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.project.employee_management.config;
+
+import com.project.employee_management.dto.EmployeeDTO;
+import com.project.employee_management.entity.Employee;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeHint;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NativeHintsTest {
+
+    @Test
+    void registerHints_ModelMapperTypes_AreReflectivelyInvocable() {
+        // Arrange
+        RuntimeHints hints = new RuntimeHints();
+
+        // Act
+        new NativeHints().registerHints(hints, getClass().getClassLoader());
+
+        // Assert
+        for (Class<?> type : new Class<?>[]{Employee.class, EmployeeDTO.class}) {
+            TypeHint typeHint = hints.reflection().getTypeHint(type);
+            assertNotNull(typeHint, "No reflection hint for " + type.getSimpleName());
+            assertTrue(typeHint.getMemberCategories().contains(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS));
+            assertTrue(typeHint.getMemberCategories().contains(MemberCategory.INVOKE_DECLARED_METHODS));
+        }
+    }
+
+    @Test
+    void registerHints_QueryBudgetJdbcProxies_AreRegistered() {
+        // Arrange
+        RuntimeHints hints = new RuntimeHints();
+
+        // Act
+        new NativeHints().registerHints(hints, getClass().getClassLoader());
+
+        // Assert
+        for (Class<?> type : new Class<?>[]{Connection.class, Statement.class, PreparedStatement.class,
+                CallableStatement.class}) {
+            assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(type).test(hints),
+                    "No proxy hint for " + type.getSimpleName());
+        }
+    }
+}
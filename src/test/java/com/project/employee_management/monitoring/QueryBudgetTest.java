@@ -0,0 +1,83 @@
+package com.project.employee_management.monitoring;
+
+import com.project.employee_management.dto.EmployeeDTO;
+import com.project.employee_management.dto.MultiGetResponse;
+import com.project.employee_management.service.EmployeeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statement budgets of the main service calls, counted through {@link QueryCountingDataSource}
+ * against the sample data. A failing budget usually means a new lazy load or an extra lookup.
+ */
+@SpringBootTest
+class QueryBudgetTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @AfterEach
+    void tearDown() {
+        QueryStatsContext.end();
+    }
+
+    @Test
+    void getEmployeeById_RunsOneStatement() {
+        // Act
+        QueryStats stats = track(() -> employeeService.getEmployeeById(1L));
+
+        // Assert
+        assertEquals(1, stats.getStatementCount());
+    }
+
+    @Test
+    void createEmployee_RunsThreeStatements() {
+        // Arrange
+        String employeeId = "QB" + System.nanoTime();
+        EmployeeDTO employeeDTO = new EmployeeDTO(null, employeeId, "Query", "Budget", employeeId + "@example.com",
+                "QA Engineer", "BENCH", "Selenium", null, null, null);
+
+        // Act
+        QueryStats stats = track(() -> employeeService.createEmployee(employeeDTO));
+
+        // Assert - one uniqueness check for email and employee ID, the insert and its history row
+        assertEquals(3, stats.getStatementCount());
+        assertTrue(stats.repeatedShapes(1).isEmpty());
+    }
+
+    @Test
+    void listEmployees_RunsOneStatement() {
+        // Act
+        QueryStats stats = track(() -> employeeService.listEmployees());
+
+        // Assert
+        assertEquals(1, stats.getStatementCount());
+    }
+
+    @Test
+    void getEmployees_RunsOneStatementPerKeyType() {
+        // Act
+        QueryStats stats = track(() -> {
+            MultiGetResponse response = employeeService.getEmployees(List.of(1L, 2L, 3L), List.of("EMP004", "EMP005"));
+            assertEquals(5, response.getResults().size());
+            return response;
+        });
+
+        // Assert
+        assertEquals(2, stats.getStatementCount());
+    }
+
+    private static QueryStats track(Supplier<?> call) {
+        QueryStats stats = QueryStatsContext.begin();
+        call.get();
+        QueryStatsContext.end();
+        return stats;
+    }
+}
@@ -0,0 +1,88 @@
+package com.project.employee_management.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryStatsTest {
+
+    @Test
+    void shape_CollapsesLiteralsInListsAndWhitespace() {
+        // Act
+        String shape = QueryStats.shape("select e.id from employees e\n  where e.status = 'BENCH' and e.id in (?, ?,?) and rownum < 10");
+
+        // Assert
+        assertEquals("select e.id from employees e where e.status = ? and e.id in (?) and rownum < ?", shape);
+    }
+
+    @Test
+    void repeatedShapes_CountsStatementsThatDifferOnlyInLiterals() {
+        // Arrange
+        QueryStats stats = new QueryStats(1_000);
+        for (int id = 1; id <= 6; id++) {
+            stats.record("select * from employees where id = " + id, 1_000);
+        }
+        stats.record("select count(*) from employees", 1_000);
+
+        // Act
+        Map<String, Integer> repeated = stats.repeatedShapes(5);
+
+        // Assert
+        assertEquals(7, stats.getStatementCount());
+        assertEquals(Map.of("select * from employees where id = ?", 6), repeated);
+        assertTrue(stats.repeatedShapes(6).isEmpty());
+    }
+
+    @Test
+    void record_FlagsStatementsAtOrOverTheSlowThreshold() {
+        // Arrange
+        QueryStats stats = new QueryStats(100);
+
+        // Act
+        stats.record("select * from employees where email = 'a@example.com'", 99_000_000);
+        stats.record("select * from employee_history where employee_pk = 7", 150_000_000);
+
+        // Assert
+        assertEquals(249.0, stats.getTotalMillis(), 1e-9);
+        assertEquals(1, stats.getSlowStatements().size());
+        assertEquals("select * from employee_history where employee_pk = ?", stats.getSlowStatements().get(0).shape());
+        assertEquals(150.0, stats.getSlowStatements().get(0).millis(), 1e-9);
+    }
+
+    @Test
+    void callTracked_WorkerStatementsAreAddedToTheCallersStats() {
+        // Arrange
+        QueryStats requestStats = new QueryStats(100);
+        requestStats.record("select * from employees where id = 1", 1_000_000);
+
+        // Act - the worker records on its own thread, the caller adds its stats after joining
+        QueryStatsContext.Tracked<String> tracked = CompletableFuture.supplyAsync(
+                () -> QueryStatsContext.callTracked(requestStats, () -> {
+                    QueryStatsContext.current().record("select * from employees where id = 2", 150_000_000);
+                    return "shard";
+                })).join();
+        String result = tracked.addTo(requestStats);
+
+        // Assert
+        assertEquals("shard", result);
+        assertEquals(2, requestStats.getStatementCount());
+        assertEquals(151.0, requestStats.getTotalMillis(), 1e-9);
+        assertEquals(Map.of("select * from employees where id = ?", 2), requestStats.repeatedShapes(1));
+        assertEquals(1, requestStats.getSlowStatements().size());
+    }
+
+    @Test
+    void callTracked_WithoutCallerStats_TracksNothing() {
+        // Act
+        QueryStatsContext.Tracked<Boolean> tracked = QueryStatsContext.callTracked(null,
+                () -> QueryStatsContext.current() == null);
+
+        // Assert
+        assertTrue(tracked.result());
+        assertNull(tracked.stats());
+        assertTrue(tracked.addTo(null));
+    }
+}
@@ -0,0 +1,198 @@
+package com.project.employee_management.replication;
+
+import com.project.employee_management.config.HikariPools;
+import com.project.employee_management.replication.ReplicationProperties.Strategy;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private ReplicationProperties properties;
+    private HikariDataSource primary;
+    private List<HikariDataSource> replicas;
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ReplicationProperties();
+        properties.setEnabled(true);
+        // Probes are triggered explicitly by the tests
+        properties.setHealthCheckIntervalMs(3_600_000);
+        primary = node("primary", 0);
+        replicas = new ArrayList<>(List.of(node("replica-0", 0), node("replica-1", 5_000)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReplicaRoutingContext.clear();
+        if (routingDataSource != null) {
+            routingDataSource.close();
+        }
+    }
+
+    @Test
+    void getConnection_WriteTransaction_UsesPrimary() {
+        // Arrange
+        routingDataSource = createRouting();
+
+        // Act & Assert
+        assertEquals("primary", currentNode());
+    }
+
+    @Test
+    void getConnection_ReadOnlyTransaction_RoundRobinsOverReplicas() {
+        // Arrange
+        routingDataSource = createRouting();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act
+        Set<String> nodes = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            nodes.add(currentNode());
+        }
+
+        // Assert
+        assertEquals(Set.of("replica-0", "replica-1"), nodes);
+    }
+
+    @Test
+    void getConnection_PinnedAfterWrite_UsesPrimary() {
+        // Arrange
+        routingDataSource = createRouting();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReplicaRoutingContext.pinToPrimary();
+
+        // Act & Assert
+        assertEquals("primary", currentNode());
+    }
+
+    @Test
+    void getConnection_UnhealthyReplica_IsSkipped() {
+        // Arrange
+        routingDataSource = createRouting();
+        replicas.get(0).close();
+        routingDataSource.checkReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act & Assert
+        for (int i = 0; i < 3; i++) {
+            assertEquals("replica-1", currentNode());
+        }
+    }
+
+    @Test
+    void getConnection_NoHealthyReplica_FallsBackToPrimary() {
+        // Arrange
+        routingDataSource = createRouting();
+        replicas.forEach(HikariDataSource::close);
+        routingDataSource.checkReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act & Assert
+        assertEquals("primary", currentNode());
+    }
+
+    @Test
+    void getConnection_LagAware_SkipsLaggingReplica() {
+        // Arrange
+        properties.setLagAware(true);
+        properties.setMaxLagMs(1_000);
+        properties.setLagQuery("SELECT lag_ms FROM node");
+        routingDataSource = createRouting();
+        routingDataSource.checkReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act & Assert
+        for (int i = 0; i < 3; i++) {
+            assertEquals("replica-0", currentNode());
+        }
+    }
+
+    @Test
+    void getConnection_LagQueryReturnsNoRow_SkipsReplica() {
+        // Arrange - replica-1 has no row for itself, so its lag is unknown
+        properties.setLagAware(true);
+        properties.setMaxLagMs(10_000);
+        properties.setLagQuery("SELECT lag_ms FROM node WHERE name = 'replica-0'");
+        routingDataSource = createRouting();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act & Assert
+        for (int i = 0; i < 3; i++) {
+            assertEquals("replica-0", currentNode());
+        }
+    }
+
+    @Test
+    void getConnection_ReplicaDownAtStartup_IsNeverUsed() {
+        // Arrange - no explicit probe, the constructor's own one has to catch it
+        replicas.get(0).close();
+        routingDataSource = createRouting();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act & Assert
+        for (int i = 0; i < 3; i++) {
+            assertEquals("replica-1", currentNode());
+        }
+    }
+
+    @Test
+    void withReplicas_LagAwareWithoutLagQuery_FailsAtStartup() {
+        // Arrange
+        properties.setLagAware(true);
+        ReplicationProperties.Node node = new ReplicationProperties.Node();
+        node.setUrl("jdbc:h2:mem:unused");
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> ReplicationConfig.withReplicas("test", primary,
+                List.of(node), properties, new Binder()));
+    }
+
+    @Test
+    void selectReplica_LeastLatency_PicksFastestReplica() {
+        // Arrange
+        properties.setStrategy(Strategy.LEAST_LATENCY);
+        routingDataSource = createRouting();
+        routingDataSource.checkReplicas();
+
+        // Act
+        ReadWriteRoutingDataSource.Replica first = routingDataSource.selectReplica();
+        ReadWriteRoutingDataSource.Replica second = routingDataSource.selectReplica();
+
+        // Assert
+        assertNotNull(first);
+        assertSame(first, second);
+    }
+
+    private ReadWriteRoutingDataSource createRouting() {
+        return new ReadWriteRoutingDataSource("test", primary, new ArrayList<DataSource>(replicas), properties);
+    }
+
+    private String currentNode() {
+        return new JdbcTemplate(routingDataSource).queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static HikariDataSource node(String name, long lagMs) {
+        HikariDataSource dataSource = HikariPools.create(new Binder(), name,
+                "jdbc:h2:mem:" + name + "_" + UUID.randomUUID(), "sa", "", 2);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(32), lag_ms BIGINT)");
+        jdbcTemplate.update("INSERT INTO node VALUES (?, ?)", name, lagMs);
+        return dataSource;
+    }
+}
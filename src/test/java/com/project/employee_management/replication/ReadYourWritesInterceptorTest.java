@@ -0,0 +1,90 @@
+package com.project.employee_management.replication;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadYourWritesInterceptorTest {
+
+    private final ReplicationProperties properties = new ReplicationProperties();
+    private final ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(properties);
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingContext.clear();
+    }
+
+    @Test
+    void preHandle_Write_ReturnsWriteTimeInHeaderAndCookie() {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        long before = System.currentTimeMillis();
+
+        // Act
+        interceptor.preHandle(new MockHttpServletRequest("PUT", "/employees/1"), response, null);
+
+        // Assert
+        long lastWrite = Long.parseLong(response.getHeader("X-Last-Write"));
+        assertTrue(lastWrite >= before);
+        assertTrue(response.getHeader(HttpHeaders.SET_COOKIE).startsWith("last-write=" + lastWrite));
+        assertFalse(ReplicaRoutingContext.isPinnedToPrimary());
+    }
+
+    @Test
+    void preHandle_ReadWithRecentWriteHeader_PinsToPrimary() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/employees/1");
+        request.addHeader("X-Last-Write", String.valueOf(System.currentTimeMillis() - 1_000));
+
+        // Act
+        interceptor.preHandle(request, new MockHttpServletResponse(), null);
+
+        // Assert
+        assertTrue(ReplicaRoutingContext.isPinnedToPrimary());
+    }
+
+    @Test
+    void preHandle_ReadWithRecentWriteCookie_PinsToPrimary() {
+        // Arrange - e.g. served by another instance than the write
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/employees/1");
+        request.setCookies(new Cookie("last-write", String.valueOf(System.currentTimeMillis())));
+
+        // Act
+        interceptor.preHandle(request, new MockHttpServletResponse(), null);
+
+        // Assert
+        assertTrue(ReplicaRoutingContext.isPinnedToPrimary());
+    }
+
+    @Test
+    void preHandle_ReadWithExpiredOrInvalidWriteTime_UsesReplicas() {
+        // Arrange
+        MockHttpServletRequest expired = new MockHttpServletRequest("GET", "/employees/1");
+        expired.addHeader("X-Last-Write", String.valueOf(System.currentTimeMillis() - properties.getStickinessMs()));
+        MockHttpServletRequest invalid = new MockHttpServletRequest("GET", "/employees/1");
+        invalid.setCookies(new Cookie("last-write", "yesterday"));
+
+        // Act & Assert
+        interceptor.preHandle(expired, new MockHttpServletResponse(), null);
+        assertFalse(ReplicaRoutingContext.isPinnedToPrimary());
+        interceptor.preHandle(invalid, new MockHttpServletResponse(), null);
+        assertFalse(ReplicaRoutingContext.isPinnedToPrimary());
+    }
+
+    @Test
+    void preHandle_MultiGet_IsNotAWrite() {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        interceptor.preHandle(new MockHttpServletRequest("POST", "/employees/_mget"), response, null);
+
+        // Assert
+        assertNull(response.getHeader("X-Last-Write"));
+    }
+}
@@ -0,0 +1,182 @@
+package com.project.employee_management.repository;
+
+import com.project.employee_management.entity.Employee;
+import com.project.employee_management.entity.Employee.EmployeeStatus;
+import com.project.employee_management.entity.EmployeeHistory;
+import com.project.employee_management.entity.EmployeeHistory.ChangeType;
+import com.project.employee_management.repository.EmployeeRepository.StatusCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.project.employee_management.entity.EmployeeHistory.OPEN_END;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the history queries, including the native INSERT ... SELECTs, against H2.
+ */
+@DataJpaTest
+class EmployeeHistoryRepositoryTest {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeHistoryRepository historyRepository;
+
+    private Employee john;
+    private Employee jane;
+    private LocalDateTime created;
+
+    @BeforeEach
+    void setUp() {
+        john = employeeRepository.saveAndFlush(employee("EMP001", "john.doe@example.com"));
+        jane = employeeRepository.saveAndFlush(employee("EMP002", "jane.doe@example.com"));
+        // Change times are whole seconds after both creations, so they survive the column's precision
+        created = jane.getDateCreated().truncatedTo(ChronoUnit.SECONDS).plusSeconds(1);
+    }
+
+    @Test
+    void snapshotUntracked_RecordsOpenBaselineOnce() {
+        // Act
+        int first = historyRepository.snapshotUntracked(OPEN_END);
+        int second = historyRepository.snapshotUntracked(OPEN_END);
+
+        // Assert
+        assertEquals(2, first);
+        assertEquals(0, second);
+        List<EmployeeHistory> versions = historyRepository.findByEmployeePkOrderByValidFromAscIdAsc(john.getId());
+        assertEquals(1, versions.size());
+        assertEquals(ChangeType.CREATE, versions.get(0).getChangeType());
+        assertEquals(john.getDateCreated().truncatedTo(ChronoUnit.MICROS),
+                versions.get(0).getValidFrom().truncatedTo(ChronoUnit.MICROS));
+        assertEquals(OPEN_END, versions.get(0).getValidTo());
+    }
+
+    @Test
+    void appendVersions_ClosesPreviousVersionWhereTheNewOneStarts() {
+        // Arrange
+        historyRepository.snapshotUntracked(OPEN_END);
+        LocalDateTime changedAt = created.plusHours(1);
+        transition(john, EmployeeStatus.ACTIVE, changedAt);
+
+        // Act
+        List<EmployeeHistory> versions = historyRepository.findByEmployeePkOrderByValidFromAscIdAsc(john.getId());
+
+        // Assert
+        assertEquals(2, versions.size());
+        assertEquals(EmployeeStatus.BENCH, versions.get(0).getStatus());
+        assertEquals(changedAt, versions.get(0).getValidTo());
+        assertEquals(ChangeType.STATUS_CHANGE, versions.get(1).getChangeType());
+        assertEquals(EmployeeStatus.ACTIVE, versions.get(1).getStatus());
+        assertEquals(changedAt, versions.get(1).getValidFrom());
+        assertEquals(OPEN_END, versions.get(1).getValidTo());
+    }
+
+    @Test
+    void findVersionAsOf_ReturnsTheVersionWhoseRangeContainsTheTime() {
+        // Arrange
+        historyRepository.snapshotUntracked(OPEN_END);
+        LocalDateTime changedAt = created.plusHours(1);
+        transition(john, EmployeeStatus.ACTIVE, changedAt);
+
+        // Act & Assert
+        assertTrue(historyRepository.findVersionAsOf(john.getId(), john.getDateCreated().minusSeconds(1)).isEmpty());
+        assertEquals(EmployeeStatus.BENCH,
+                historyRepository.findVersionAsOf(john.getId(), changedAt.minusSeconds(1)).orElseThrow().getStatus());
+        assertEquals(EmployeeStatus.ACTIVE,
+                historyRepository.findVersionAsOf(john.getId(), changedAt).orElseThrow().getStatus());
+        assertEquals(EmployeeStatus.ACTIVE,
+                historyRepository.findVersionAsOf(john.getId(), changedAt.plusDays(1)).orElseThrow().getStatus());
+    }
+
+    @Test
+    void appendVersions_EarlierTimestamp_DoesNotOverlapTheCurrentVersion() {
+        // Arrange - the second change carries a timestamp before the first one's
+        historyRepository.snapshotUntracked(OPEN_END);
+        LocalDateTime changedAt = created.plusHours(2);
+        transition(john, EmployeeStatus.ACTIVE, changedAt);
+        transition(john, EmployeeStatus.RESIGNED, changedAt.minusHours(1));
+
+        // Act
+        List<EmployeeHistory> versions = historyRepository.findByEmployeePkOrderByValidFromAscIdAsc(john.getId());
+
+        // Assert - the ACTIVE version is closed where it started and RESIGNED follows it
+        assertEquals(3, versions.size());
+        assertEquals(changedAt, versions.get(1).getValidFrom());
+        assertEquals(changedAt, versions.get(1).getValidTo());
+        assertEquals(EmployeeStatus.RESIGNED, versions.get(2).getStatus());
+        assertEquals(changedAt, versions.get(2).getValidFrom());
+        assertEquals(EmployeeStatus.RESIGNED,
+                historyRepository.findVersionAsOf(john.getId(), changedAt).orElseThrow().getStatus());
+    }
+
+    @Test
+    void countGroupedByStatusAsOf_CountsVersionsInEffectAndSkipsDeletedEmployees() {
+        // Arrange
+        historyRepository.snapshotUntracked(OPEN_END);
+        LocalDateTime changedAt = created.plusHours(1);
+        LocalDateTime deletedAt = created.plusHours(2);
+        transition(john, EmployeeStatus.ACTIVE, changedAt);
+        historyRepository.closeCurrentVersions(List.of(jane.getId()), deletedAt, OPEN_END);
+        historyRepository.appendVersions(List.of(jane.getId()), ChangeType.DELETE.name(), deletedAt, OPEN_END);
+        employeeRepository.deleteById(jane.getId());
+        employeeRepository.flush();
+
+        // Act
+        Map<EmployeeStatus, Long> beforeChange = counts(changedAt.minusSeconds(1));
+        Map<EmployeeStatus, Long> afterChange = counts(changedAt);
+        Map<EmployeeStatus, Long> afterDelete = counts(deletedAt);
+
+        // Assert
+        assertEquals(Map.of(EmployeeStatus.BENCH, 2L), beforeChange);
+        assertEquals(Map.of(EmployeeStatus.ACTIVE, 1L, EmployeeStatus.BENCH, 1L), afterChange);
+        assertEquals(Map.of(EmployeeStatus.ACTIVE, 1L), afterDelete);
+    }
+
+    @Test
+    void deleteByEmployeePkIn_RemovesOnlyTheGivenEmployeesVersions() {
+        // Arrange
+        historyRepository.snapshotUntracked(OPEN_END);
+        transition(john, EmployeeStatus.ACTIVE, created.plusHours(1));
+
+        // Act
+        int removed = historyRepository.deleteByEmployeePkIn(List.of(john.getId()));
+
+        // Assert
+        assertEquals(2, removed);
+        assertTrue(historyRepository.findByEmployeePkOrderByValidFromAscIdAsc(john.getId()).isEmpty());
+        assertEquals(1, historyRepository.findByEmployeePkOrderByValidFromAscIdAsc(jane.getId()).size());
+    }
+
+    private void transition(Employee employee, EmployeeStatus status, LocalDateTime at) {
+        employee.setStatus(status);
+        employeeRepository.saveAndFlush(employee);
+        historyRepository.closeCurrentVersions(List.of(employee.getId()), at, OPEN_END);
+        historyRepository.appendVersions(List.of(employee.getId()), ChangeType.STATUS_CHANGE.name(), at, OPEN_END);
+    }
+
+    private Map<EmployeeStatus, Long> counts(LocalDateTime at) {
+        return historyRepository.countGroupedByStatusAsOf(at, ChangeType.DELETE).stream()
+                .collect(Collectors.toMap(StatusCount::getStatus, StatusCount::getTotal));
+    }
+
+    private static Employee employee(String employeeId, String email) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(employeeId);
+        employee.setFirstName("John");
+        employee.setLastName("Doe");
+        employee.setEmail(email);
+        employee.setRole("Software Engineer");
+        employee.setStatus(EmployeeStatus.BENCH);
+        employee.setPrimarySkill("Java");
+        return employee;
+    }
+}
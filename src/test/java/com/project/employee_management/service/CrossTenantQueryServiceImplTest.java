@@ -0,0 +1,165 @@
+package com.project.employee_management.service;
+
+import com.project.employee_management.dto.CrossTenantEmployees;
+import com.project.employee_management.dto.CrossTenantStats;
+import com.project.employee_management.dto.EmployeeDTO;
+import com.project.employee_management.monitoring.QueryStats;
+import com.project.employee_management.monitoring.QueryStatsContext;
+import com.project.employee_management.service.impl.CrossTenantQueryServiceImpl;
+import com.project.employee_management.tenancy.TenancyProperties;
+import com.project.employee_management.tenancy.TenantContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CrossTenantQueryServiceImplTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TenancyProperties properties;
+    private CrossTenantQueryServiceImpl crossTenantQueryService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TenancyProperties();
+        properties.setEnabled(true);
+        properties.setShardTimeoutMs(200);
+        properties.getShards().put(TenantContext.DEFAULT_TENANT, new TenancyProperties.Shard());
+        properties.getShards().put("retail", new TenancyProperties.Shard());
+        properties.getShards().put("finance", new TenancyProperties.Shard());
+        crossTenantQueryService = new CrossTenantQueryServiceImpl(employeeService, properties, transactionManager);
+    }
+
+    @Test
+    void countEmployeesByStatus_SumsEveryShard() {
+        // Arrange - each shard answers with counts derived from its own tenant
+        when(employeeService.countEmployeesByStatus()).thenAnswer(invocation -> switch (TenantContext.getTenant()) {
+            case "retail" -> Map.of("ACTIVE", 3L, "BENCH", 1L);
+            case "finance" -> Map.of("ACTIVE", 2L);
+            default -> Map.of("BENCH", 4L);
+        });
+
+        // Act
+        CrossTenantStats result = crossTenantQueryService.countEmployeesByStatus();
+
+        // Assert
+        assertEquals(5L, result.getTotals().get("ACTIVE"));
+        assertEquals(5L, result.getTotals().get("BENCH"));
+        assertEquals(3, result.getTenants().size());
+        assertTrue(result.getErrors().isEmpty());
+    }
+
+    @Test
+    void listEmployees_SlowShard_IsReportedAsTimedOut() {
+        // Arrange
+        when(employeeService.listEmployees()).thenAnswer(invocation -> {
+            if ("finance".equals(TenantContext.getTenant())) {
+                Thread.sleep(2_000);
+            }
+            return List.of(new EmployeeDTO());
+        });
+
+        // Act
+        long start = System.nanoTime();
+        CrossTenantEmployees result = crossTenantQueryService.listEmployees();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert
+        assertEquals(2, result.getTenants().size());
+        assertFalse(result.getTenants().containsKey("finance"));
+        assertTrue(result.getErrors().get("finance").startsWith("Timed out"));
+        assertTrue(elapsedMillis < 1_000, "Scatter-gather waited " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void listEmployees_FailingShard_IsReportedAsFailed() {
+        // Arrange
+        when(employeeService.listEmployees()).thenAnswer(invocation -> {
+            if ("retail".equals(TenantContext.getTenant())) {
+                throw new IllegalStateException("connection refused");
+            }
+            return List.of(new EmployeeDTO());
+        });
+
+        // Act
+        CrossTenantEmployees result = crossTenantQueryService.listEmployees();
+
+        // Assert
+        assertEquals(2, result.getTenants().size());
+        assertEquals("Failed: connection refused", result.getErrors().get("retail"));
+    }
+
+    @Test
+    void listEmployees_EachShardRunsInATransactionWithTheShardTimeout() {
+        // Arrange
+        when(employeeService.listEmployees()).thenReturn(List.of(new EmployeeDTO()));
+
+        // Act
+        crossTenantQueryService.listEmployees();
+
+        // Assert - 200 ms rounds up to the one-second granularity of JDBC query timeouts
+        verify(transactionManager, times(3)).getTransaction(argThat(definition ->
+                definition.isReadOnly() && definition.getTimeout() == 1));
+    }
+
+    @Test
+    void listEmployees_PoolAndQueueFull_ShardIsReportedAsRejected() {
+        // Arrange - one worker and one queue slot for three shards
+        properties.setShardTimeoutMs(1_000);
+        properties.setScatterGatherThreads(1);
+        properties.setScatterGatherQueueCapacity(1);
+        crossTenantQueryService = new CrossTenantQueryServiceImpl(employeeService, properties, transactionManager);
+        when(employeeService.listEmployees()).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            return List.of(new EmployeeDTO());
+        });
+
+        // Act
+        CrossTenantEmployees result = crossTenantQueryService.listEmployees();
+
+        // Assert
+        assertEquals(2, result.getTenants().size());
+        assertTrue(result.getErrors().get("finance").startsWith("Rejected"));
+    }
+
+    @Test
+    void listEmployees_WorkersTrackStatementsForTheRequest() {
+        // Arrange
+        QueryStats requestStats = QueryStatsContext.begin();
+        Set<QueryStats> workerStats = ConcurrentHashMap.newKeySet();
+        when(employeeService.listEmployees()).thenAnswer(invocation -> {
+            QueryStats stats = QueryStatsContext.current();
+            if (stats != null && stats != requestStats) {
+                workerStats.add(stats);
+            }
+            return List.of(new EmployeeDTO());
+        });
+
+        // Act
+        try {
+            crossTenantQueryService.listEmployees();
+        } finally {
+            QueryStatsContext.end();
+        }
+
+        // Assert - every shard ran with its own stats, added to the request's once joined
+        assertEquals(3, workerStats.size());
+        assertEquals(0, requestStats.getStatementCount());
+    }
+}
@@ -0,0 +1,166 @@
+package com.project.employee_management.service;
+
+import com.project.employee_management.dto.EmployeeDTO;
+import com.project.employee_management.dto.EmployeeVersionDTO;
+import com.project.employee_management.entity.Employee;
+import com.project.employee_management.entity.Employee.EmployeeStatus;
+import com.project.employee_management.entity.EmployeeHistory;
+import com.project.employee_management.entity.EmployeeHistory.ChangeType;
+import com.project.employee_management.exception.ResourceNotFoundException;
+import com.project.employee_management.repository.EmployeeHistoryRepository;
+import com.project.employee_management.repository.EmployeeRepository.StatusCount;
+import com.project.employee_management.service.impl.EmployeeHistoryServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeHistoryServiceImplTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2025, 1, 31, 18, 0);
+
+    @Mock
+    private EmployeeHistoryRepository historyRepository;
+
+    @InjectMocks
+    private EmployeeHistoryServiceImpl historyService;
+
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        employee = new Employee();
+        employee.setId(1L);
+        employee.setEmployeeId("EMP001");
+        employee.setFirstName("John");
+        employee.setLastName("Doe");
+        employee.setEmail("john.doe@example.com");
+        employee.setRole("Software Engineer");
+        employee.setStatus(EmployeeStatus.BENCH);
+        employee.setPrimarySkill("Java");
+        employee.setSecondarySkill("Spring Boot");
+        employee.setDateCreated(AT.minusDays(30));
+    }
+
+    @Test
+    void recordVersion_ClosesCurrentVersionAndAppendsRow() {
+        // Act
+        historyService.recordVersion(employee, ChangeType.UPDATE);
+
+        // Assert
+        InOrder inOrder = inOrder(historyRepository);
+        inOrder.verify(historyRepository).flush();
+        ArgumentCaptor<LocalDateTime> closedAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        inOrder.verify(historyRepository).closeCurrentVersions(eq(List.of(1L)), closedAt.capture(),
+                eq(EmployeeHistory.OPEN_END));
+        inOrder.verify(historyRepository).appendVersions(List.of(1L), "UPDATE", closedAt.getValue(),
+                EmployeeHistory.OPEN_END);
+    }
+
+    @Test
+    void recordSnapshot_Create_HasNoVersionToClose() {
+        // Act
+        historyService.recordSnapshot(List.of(1L, 2L), ChangeType.CREATE, AT);
+
+        // Assert
+        verify(historyRepository).appendVersions(List.of(1L, 2L), "CREATE", AT, EmployeeHistory.OPEN_END);
+        verify(historyRepository, never()).closeCurrentVersions(any(), any(), any());
+    }
+
+    @Test
+    void purge_RemovesEveryVersion() {
+        // Act
+        historyService.purge(List.of(1L, 2L));
+        historyService.purge(List.of());
+
+        // Assert
+        verify(historyRepository).deleteByEmployeePkIn(List.of(1L, 2L));
+        verifyNoMoreInteractions(historyRepository);
+    }
+
+    @Test
+    void getEmployeeAsOf_ReturnsVersionInEffect() {
+        // Arrange
+        EmployeeHistory version = EmployeeHistory.of(employee, ChangeType.STATUS_CHANGE, AT.minusDays(1));
+        when(historyRepository.findVersionAsOf(1L, AT))
+                .thenReturn(Optional.of(version));
+
+        // Act
+        EmployeeDTO result = historyService.getEmployeeAsOf(1L, AT);
+
+        // Assert
+        assertEquals(1L, result.getId());
+        assertEquals("BENCH", result.getStatus());
+        assertEquals(AT.minusDays(1), result.getDateUpdated());
+    }
+
+    @Test
+    void getEmployeeAsOf_DeletedEmployee_ThrowsException() {
+        // Arrange
+        when(historyRepository.findVersionAsOf(1L, AT))
+                .thenReturn(Optional.of(EmployeeHistory.of(employee, ChangeType.DELETE, AT.minusDays(1))));
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> historyService.getEmployeeAsOf(1L, AT));
+    }
+
+    @Test
+    void getEmployeeAsOf_BeforeCreation_ThrowsException() {
+        // Arrange
+        when(historyRepository.findVersionAsOf(1L, AT))
+                .thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> historyService.getEmployeeAsOf(1L, AT));
+    }
+
+    @Test
+    void getEmployeeHistory_MapsEveryVersion() {
+        // Arrange
+        EmployeeHistory created = EmployeeHistory.of(employee, ChangeType.CREATE, AT.minusDays(30));
+        created.setValidTo(AT.minusDays(1));
+        when(historyRepository.findByEmployeePkOrderByValidFromAscIdAsc(1L)).thenReturn(List.of(
+                created, EmployeeHistory.of(employee, ChangeType.STATUS_CHANGE, AT.minusDays(1))));
+
+        // Act
+        List<EmployeeVersionDTO> result = historyService.getEmployeeHistory(1L);
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals("CREATE", result.get(0).getChangeType());
+        assertEquals("STATUS_CHANGE", result.get(1).getChangeType());
+        assertEquals("EMP001", result.get(1).getEmployee().getEmployeeId());
+        assertEquals(AT.minusDays(1), result.get(0).getValidTo());
+        assertNull(result.get(1).getValidTo());
+    }
+
+    @Test
+    void countEmployeesByStatusAsOf_FillsMissingStatusesWithZero() {
+        // Arrange
+        StatusCount bench = mock(StatusCount.class);
+        when(bench.getStatus()).thenReturn(EmployeeStatus.BENCH);
+        when(bench.getTotal()).thenReturn(7L);
+        when(historyRepository.countGroupedByStatusAsOf(AT, ChangeType.DELETE)).thenReturn(List.of(bench));
+
+        // Act
+        Map<String, Long> result = historyService.countEmployeesByStatusAsOf(AT);
+
+        // Assert
+        assertEquals(Map.of("ACTIVE", 0L, "BENCH", 7L, "RESIGNED", 0L), result);
+    }
+}
@@ -0,0 +1,167 @@
+package com.project.employee_management.service;
+
+import com.project.employee_management.dto.EmployeeDTO;
+import com.project.employee_management.dto.EmployeeVersionDTO;
+import com.project.employee_management.entity.Employee;
+import com.project.employee_management.entity.EmployeeHistory.ChangeType;
+import com.project.employee_management.monitoring.QueryStats;
+import com.project.employee_management.monitoring.QueryStatsContext;
+import com.project.employee_management.repository.EmployeeRepository;
+import com.project.employee_management.service.impl.EmployeeServiceImpl;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Per-write cost of the employee history: create and update through {@link EmployeeServiceImpl}
+ * with the real history service and with one that records nothing, each call in its own
+ * transaction. Run with {@code ./mvnw test -Dtest=EmployeeHistoryWriteCostTest -Dbenchmark=true}.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.project.employee_management=INFO"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@Slf4j
+class EmployeeHistoryWriteCostTest {
+
+    private static final int WARMUP = 500;
+    private static final int WRITES = 5_000;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ModelMapper modelMapper;
+
+    @Autowired
+    private SkillMatchService skillMatchService;
+
+    @Autowired
+    private EmployeeHistoryService historyService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void benchmark_CreateAndUpdateWithAndWithoutHistory() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        EmployeeService withHistory = new EmployeeServiceImpl(employeeRepository, modelMapper, skillMatchService,
+                historyService);
+        EmployeeService withoutHistory = new EmployeeServiceImpl(employeeRepository, modelMapper, skillMatchService,
+                new NoHistory());
+
+        // Alternate the variants so warm-up and table growth affect both alike
+        run("warmup", withoutHistory, transaction, WARMUP);
+        run("warmup", withHistory, transaction, WARMUP);
+        Result withoutCost = run("without history", withoutHistory, transaction, WRITES);
+        Result withCost = run("with history", withHistory, transaction, WRITES);
+
+        log.info("history overhead per create: {} statements, {} us; per update: {} statements, {} us",
+                withCost.createStatements() - withoutCost.createStatements(),
+                withCost.createMicros() - withoutCost.createMicros(),
+                withCost.updateStatements() - withoutCost.updateStatements(),
+                withCost.updateMicros() - withoutCost.updateMicros());
+        // The statement cost documented on EmployeeHistoryServiceImpl
+        assertEquals(1.0, withCost.createStatements() - withoutCost.createStatements(), 1e-9);
+        assertEquals(2.0, withCost.updateStatements() - withoutCost.updateStatements(), 1e-9);
+    }
+
+    private Result run(String name, EmployeeService service, TransactionTemplate transaction, int writes) {
+        List<EmployeeDTO> created = new ArrayList<>(writes);
+        String prefix = name.charAt(0) + Long.toString(System.nanoTime(), 36);
+
+        Measurement creates = measure(transaction, writes, i -> {
+            String employeeId = prefix + "-" + i;
+            EmployeeDTO employee = new EmployeeDTO(null, employeeId, "Write", "Cost", employeeId + "@example.com",
+                    "Software Engineer", "BENCH", "Java", "Spring Boot", null, null);
+            created.add(service.createEmployee(employee));
+            return null;
+        });
+        Measurement updates = measure(transaction, writes, i -> {
+            EmployeeDTO employee = created.get(i);
+            employee.setRole("Senior Software Engineer");
+            employee.setStatus("ACTIVE");
+            return service.updateEmployee(employee.getId(), employee);
+        });
+
+        Result result = new Result(creates.statementsPerWrite(), creates.microsPerWrite(),
+                updates.statementsPerWrite(), updates.microsPerWrite());
+        log.info("{}: create {} statements {} us, update {} statements {} us", name,
+                result.createStatements(), result.createMicros(), result.updateStatements(), result.updateMicros());
+        return result;
+    }
+
+    private static Measurement measure(TransactionTemplate transaction, int writes, Function<Integer, ?> write) {
+        long statements = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < writes; i++) {
+            int index = i;
+            QueryStats stats = QueryStatsContext.begin();
+            try {
+                transaction.execute(status -> write.apply(index));
+            } finally {
+                QueryStatsContext.end();
+            }
+            statements += stats.getStatementCount();
+        }
+        return new Measurement((double) statements / writes, (System.nanoTime() - start) / 1_000 / writes);
+    }
+
+    private record Measurement(double statementsPerWrite, long microsPerWrite) {
+    }
+
+    private record Result(double createStatements, long createMicros, double updateStatements, long updateMicros) {
+    }
+
+    private static class NoHistory implements EmployeeHistoryService {
+
+        @Override
+        public void recordVersion(Employee employee, ChangeType changeType) {
+        }
+
+        @Override
+        public void recordSnapshot(Collection<Long> ids, ChangeType changeType, LocalDateTime recordedAt) {
+        }
+
+        @Override
+        public void purge(Collection<Long> ids) {
+        }
+
+        @Override
+        public int recordBaseline() {
+            return 0;
+        }
+
+        @Override
+        public List<EmployeeVersionDTO> getEmployeeHistory(Long id) {
+            return List.of();
+        }
+
+        @Override
+        public EmployeeDTO getEmployeeAsOf(Long id, LocalDateTime at) {
+            return null;
+        }
+
+        @Override
+        public Map<String, Long> countEmployeesByStatusAsOf(LocalDateTime at) {
+            return Map.of();
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.project.employee_management.service;
 
 import com.project.employee_management.dto.EmployeeDTO;
+import com.project.employee_management.dto.MultiGetResponse;
 import com.project.employee_management.entity.Employee;
 import com.project.employee_management.entity.Employee.EmployeeStatus;
 import com.project.employee_management.exception.ResourceNotFoundException;
 import com.project.employee_management.repository.EmployeeRepository;
+import com.project.employee_management.repository.EmployeeRepository.UniqueKeys;
 import com.project.employee_management.service.impl.EmployeeServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,6 +20,7 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -33,6 +36,12 @@ class EmployeeServiceImplTest {
     @Mock
     private ModelMapper modelMapper;
 
+    @Mock
+    private SkillMatchService skillMatchService;
+
+    @Mock
+    private EmployeeHistoryService historyService;
+
     @InjectMocks
     private EmployeeServiceImpl employeeService;
 
@@ -69,8 +78,7 @@ class EmployeeServiceImplTest {
     @Test
     void createEmployee_Success() {
         // Arrange
-        when(employeeRepository.existsByEmail(anyString())).thenReturn(false);
-        when(employeeRepository.existsByEmployeeId(anyString())).thenReturn(false);
+        when(employeeRepository.findUniqueKeyConflicts(anyString(), anyString())).thenReturn(List.of());
         when(modelMapper.map(employeeDTO, Employee.class)).thenReturn(employee);
         when(employeeRepository.save(any(Employee.class))).thenReturn(employee);
         when(modelMapper.map(employee, EmployeeDTO.class)).thenReturn(employeeDTO);
@@ -86,26 +94,29 @@ class EmployeeServiceImplTest {
 
     @Test
     void createEmployee_EmailAlreadyExists_ThrowsException() {
-        // Arrange
-        when(employeeRepository.existsByEmail(anyString())).thenReturn(true);
+        // Arrange - another employee holds the email, a third one the employee ID
+        when(employeeRepository.findUniqueKeyConflicts(anyString(), anyString())).thenReturn(List.of(
+                uniqueKeys("EMP001", "other@example.com"), uniqueKeys("EMP999", "john.doe@example.com")));
 
         // Act & Assert
-        assertThrows(IllegalArgumentException.class, () -> {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
             employeeService.createEmployee(employeeDTO);
         });
+        assertEquals("Email already exists: john.doe@example.com", exception.getMessage());
         verify(employeeRepository, never()).save(any(Employee.class));
     }
 
     @Test
     void createEmployee_EmployeeIdAlreadyExists_ThrowsException() {
         // Arrange
-        when(employeeRepository.existsByEmail(anyString())).thenReturn(false);
-        when(employeeRepository.existsByEmployeeId(anyString())).thenReturn(true);
+        when(employeeRepository.findUniqueKeyConflicts(anyString(), anyString()))
+                .thenReturn(List.of(uniqueKeys("EMP001", "other@example.com")));
 
         // Act & Assert
-        assertThrows(IllegalArgumentException.class, () -> {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
             employeeService.createEmployee(employeeDTO);
         });
+        assertEquals("Employee ID already exists: EMP001", exception.getMessage());
         verify(employeeRepository, never()).save(any(Employee.class));
     }
 
@@ -234,4 +245,75 @@ class EmployeeServiceImplTest {
         assertEquals(1, result.size());
         verify(employeeRepository, times(1)).findByStatus(EmployeeStatus.ACTIVE);
     }
+
+    @Test
+    void getEmployees_ReturnsRequestOrderWithNotFoundMarkers() {
+        // Arrange
+        when(employeeRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(employee));
+        when(employeeRepository.findByEmployeeIdIn(List.of("EMP001", "EMP404"))).thenReturn(List.of(employee));
+        when(modelMapper.map(any(Employee.class), eq(EmployeeDTO.class))).thenReturn(employeeDTO);
+
+        // Act
+        MultiGetResponse result = employeeService.getEmployees(List.of(2L, 1L, 1L), List.of("EMP001", "EMP404"));
+
+        // Assert
+        assertEquals(3, result.getFound());
+        assertEquals(2, result.getNotFound());
+        assertEquals(5, result.getResults().size());
+        assertEquals(2L, result.getResults().get(0).getId());
+        assertFalse(result.getResults().get(0).isFound());
+        assertNull(result.getResults().get(0).getEmployee());
+        assertTrue(result.getResults().get(1).isFound());
+        assertTrue(result.getResults().get(2).isFound());
+        assertEquals("EMP001", result.getResults().get(3).getEmployeeId());
+        assertTrue(result.getResults().get(3).isFound());
+        assertFalse(result.getResults().get(4).isFound());
+        verify(employeeRepository, times(1)).findAllById(any());
+        verify(employeeRepository, never()).findById(any());
+    }
+
+    @Test
+    void getEmployees_LargeRequest_QueriesInChunks() {
+        // Arrange
+        List<Long> ids = LongStream.rangeClosed(1, 2500).boxed().toList();
+        when(employeeRepository.findAllById(any())).thenReturn(List.of());
+
+        // Act
+        MultiGetResponse result = employeeService.getEmployees(ids, List.of());
+
+        // Assert
+        assertEquals(2500, result.getNotFound());
+        verify(employeeRepository, times(3)).findAllById(any());
+        verify(employeeRepository, never()).findByEmployeeIdIn(any());
+    }
+
+    @Test
+    void getEmployees_TooManyKeys_ThrowsException() {
+        // Arrange
+        List<Long> ids = LongStream.rangeClosed(1, 5001).boxed().toList();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> employeeService.getEmployees(ids, List.of()));
+        verify(employeeRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void getEmployees_NoKeys_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> employeeService.getEmployees(List.of(), null));
+    }
+
+    private static UniqueKeys uniqueKeys(String employeeId, String email) {
+        return new UniqueKeys() {
+            @Override
+            public String getEmail() {
+                return email;
+            }
+
+            @Override
+            public String getEmployeeId() {
+                return employeeId;
+            }
+        };
+    }
 }
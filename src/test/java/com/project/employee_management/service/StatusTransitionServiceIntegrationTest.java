@@ -0,0 +1,58 @@
+package com.project.employee_management.service;
+
+import com.project.employee_management.dto.EmployeeDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Write-behind against the real schema: the guarded bulk UPDATE must not overwrite a newer write.
+ */
+@SpringBootTest(properties = {
+        "employee.status-write-behind.mode=ASYNC",
+        "employee.status-write-behind.flush-interval-ms=3600000"
+})
+class StatusTransitionServiceIntegrationTest {
+
+    @Autowired
+    private StatusTransitionService statusTransitionService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Test
+    void flush_PutAfterBufferedPatch_KeepsThePutStatus() {
+        // Arrange - PATCH is acknowledged and buffered, then a PUT commits before the flush
+        EmployeeDTO employee = employeeService.getEmployeeById(2L);
+        String putStatus = "BENCH".equals(employee.getStatus()) ? "ACTIVE" : "BENCH";
+        statusTransitionService.transitionStatus(List.of(2L), "RESIGNED");
+        employee.setStatus(putStatus);
+        employeeService.updateEmployee(2L, employee);
+
+        // Act
+        int applied = statusTransitionService.flush();
+
+        // Assert
+        assertEquals(0, applied);
+        assertEquals(putStatus, employeeService.getEmployeeById(2L).getStatus());
+    }
+
+    @Test
+    void flush_PatchAfterPut_IsApplied() {
+        // Arrange
+        EmployeeDTO employee = employeeService.getEmployeeById(3L);
+        employeeService.updateEmployee(3L, employee);
+        statusTransitionService.transitionStatus(List.of(3L), "RESIGNED");
+
+        // Act
+        int applied = statusTransitionService.flush();
+
+        // Assert
+        assertEquals(1, applied);
+        assertEquals("RESIGNED", employeeService.getEmployeeById(3L).getStatus());
+    }
+}
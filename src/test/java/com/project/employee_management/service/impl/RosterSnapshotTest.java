@@ -0,0 +1,236 @@
+package com.project.employee_management.service.impl;
+
+import com.project.employee_management.config.EmployeeDataGenerator;
+import com.project.employee_management.dto.EmployeeDTO;
+import com.project.employee_management.entity.Employee;
+import com.project.employee_management.entity.Employee.EmployeeStatus;
+import com.project.employee_management.service.impl.RosterSnapshot.Dimension;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class RosterSnapshotTest {
+
+    private static final LocalDateTime JANUARY = LocalDateTime.of(2024, 1, 15, 9, 0);
+    private static final LocalDateTime FEBRUARY = LocalDateTime.of(2024, 2, 29, 23, 59);
+    private static final LocalDateTime APRIL = LocalDateTime.of(2024, 4, 1, 0, 0);
+
+    private final RosterSnapshot snapshot = RosterSnapshot.builder()
+            .add("Software Engineer", EmployeeStatus.ACTIVE, "Java", "Spring Boot", RosterSnapshot.epochSecond(JANUARY))
+            .add("Software Engineer", EmployeeStatus.BENCH, "Python", "Java", RosterSnapshot.epochSecond(FEBRUARY))
+            .add("QA Engineer", EmployeeStatus.BENCH, "Selenium", null, RosterSnapshot.epochSecond(FEBRUARY))
+            .add("QA Engineer", EmployeeStatus.RESIGNED, "Java", "", RosterSnapshot.epochSecond(APRIL))
+            .build();
+
+    @Test
+    void count_GroupsByStatusAndRole() {
+        // Act
+        RosterSnapshot.Result result = snapshot.count(query(List.of(Dimension.STATUS, Dimension.ROLE),
+                List.of(), List.of(), List.of(), Long.MIN_VALUE, Long.MAX_VALUE), false);
+
+        // Assert
+        assertEquals(4, result.scanned());
+        assertEquals(4, result.matched());
+        assertEquals(4, result.groups().size());
+        assertTrue(result.groups().contains(new RosterSnapshot.Group(
+                Map.of(Dimension.STATUS, "BENCH", Dimension.ROLE, "QA Engineer"), 1)));
+    }
+
+    @Test
+    void count_SkillFilterMatchesEitherSkill() {
+        // Act
+        RosterSnapshot.Result result = snapshot.count(query(List.of(Dimension.STATUS),
+                List.of(), List.of(), List.of("Java"), Long.MIN_VALUE, Long.MAX_VALUE), false);
+
+        // Assert
+        assertEquals(3, result.matched());
+        assertEquals(new RosterSnapshot.Group(Map.of(Dimension.STATUS, "ACTIVE"), 1), result.groups().get(0));
+        assertEquals(3, result.groups().size());
+    }
+
+    @Test
+    void count_RoleAndSkillFiltersIgnoreCase() {
+        // Act
+        RosterSnapshot.Result result = snapshot.count(query(List.of(),
+                List.of(), List.of(" software engineer"), List.of("java"), Long.MIN_VALUE, Long.MAX_VALUE), false);
+
+        // Assert
+        assertEquals(2, result.matched());
+    }
+
+    @Test
+    void build_SpellingsDifferingInCase_ShareOneGroup() {
+        // Arrange
+        RosterSnapshot mixedCase = RosterSnapshot.builder()
+                .add("QA Engineer", EmployeeStatus.BENCH, "Java", null, RosterSnapshot.epochSecond(JANUARY))
+                .add("QA Engineer", EmployeeStatus.BENCH, "JAVA ", null, RosterSnapshot.epochSecond(JANUARY))
+                .build();
+
+        // Act
+        RosterSnapshot.Result result = mixedCase.count(query(List.of(Dimension.PRIMARY_SKILL),
+                List.of(), List.of(), List.of(), Long.MIN_VALUE, Long.MAX_VALUE), false);
+
+        // Assert
+        assertEquals(1, mixedCase.skillCount());
+        assertEquals(List.of(new RosterSnapshot.Group(Map.of(Dimension.PRIMARY_SKILL, "Java"), 2)), result.groups());
+    }
+
+    @Test
+    void count_AppliesStatusRoleAndCreatedFilters() {
+        // Act
+        RosterSnapshot.Result result = snapshot.count(query(List.of(),
+                List.of(EmployeeStatus.BENCH, EmployeeStatus.RESIGNED), List.of("QA Engineer"), List.of(),
+                RosterSnapshot.epochSecond(FEBRUARY), RosterSnapshot.epochSecond(APRIL)), false);
+
+        // Assert
+        assertEquals(1, result.matched());
+        assertEquals(List.of(new RosterSnapshot.Group(Map.of(), 1)), result.groups());
+    }
+
+    @Test
+    void count_GroupsByCreatedMonthAndMissingSecondarySkill() {
+        // Act
+        RosterSnapshot.Result byMonth = snapshot.count(query(List.of(Dimension.CREATED_MONTH),
+                List.of(), List.of(), List.of(), Long.MIN_VALUE, Long.MAX_VALUE), false);
+        RosterSnapshot.Result bySecondary = snapshot.count(query(List.of(Dimension.SECONDARY_SKILL),
+                List.of(), List.of(), List.of(), Long.MIN_VALUE, Long.MAX_VALUE), false);
+
+        // Assert
+        assertEquals(List.of(
+                new RosterSnapshot.Group(Map.of(Dimension.CREATED_MONTH, "2024-02"), 2),
+                new RosterSnapshot.Group(Map.of(Dimension.CREATED_MONTH, "2024-01"), 1),
+                new RosterSnapshot.Group(Map.of(Dimension.CREATED_MONTH, "2024-04"), 1)), byMonth.groups());
+        assertEquals(2, bySecondary.groups().get(0).count());
+        assertNull(bySecondary.groups().get(0).key().get(Dimension.SECONDARY_SKILL));
+    }
+
+    @Test
+    void monthIndex_MatchesJavaTime() {
+        for (LocalDate date = LocalDate.of(1999, 12, 1); date.isBefore(LocalDate.of(2031, 3, 1)); date = date.plusDays(1)) {
+            YearMonth month = YearMonth.from(date);
+            assertEquals(month.getYear() * 12 + month.getMonthValue() - 1,
+                    RosterSnapshot.monthIndex(RosterSnapshot.epochSecond(date.atTime(23, 59, 59))), date.toString());
+        }
+    }
+
+    @Test
+    void count_ParallelScanMatchesSerialScan() {
+        // Arrange
+        RosterSnapshot large = generate(300_000);
+        RosterSnapshot.Query query = query(List.of(Dimension.STATUS, Dimension.ROLE, Dimension.CREATED_MONTH),
+                List.of(EmployeeStatus.ACTIVE, EmployeeStatus.BENCH), List.of(), List.of(), Long.MIN_VALUE, Long.MAX_VALUE);
+
+        // Act
+        RosterSnapshot.Result serial = large.count(query, false);
+        RosterSnapshot.Result parallel = large.count(query, true);
+
+        // Assert
+        assertEquals(serial, parallel);
+        assertEquals(300_000L * (4 + 4 + 4 + 1 + 8), large.offHeapBytes());
+    }
+
+    @Test
+    void count_EmptySnapshot_ReturnsNoGroups() {
+        // Act
+        RosterSnapshot.Result result = RosterSnapshot.builder().build().count(query(List.of(Dimension.ROLE),
+                List.of(), List.of(), List.of(), Long.MIN_VALUE, Long.MAX_VALUE), false);
+
+        // Assert
+        assertEquals(0, result.matched());
+        assertTrue(result.groups().isEmpty());
+    }
+
+    /**
+     * Compares the snapshot with grouping an on-heap {@code List<EmployeeDTO>}, which is what
+     * analytics did through {@code listEmployees()}. Not a unit test, so it is opt-in:
+     * {@code ./mvnw test -Dtest=RosterSnapshotTest -Dbenchmark=true}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmark_SnapshotVersusDtoList() {
+        int count = 1_000_000;
+        EmployeeDataGenerator generator = new EmployeeDataGenerator(42, LocalDateTime.now());
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(generator.next());
+        }
+
+        long heapBefore = usedHeap();
+        List<EmployeeDTO> dtos = employees.stream()
+                .map(e -> new EmployeeDTO(e.getId(), e.getEmployeeId(), e.getFirstName(), e.getLastName(), e.getEmail(),
+                        e.getRole(), e.getStatus().name(), e.getPrimarySkill(), e.getSecondarySkill(),
+                        e.getDateCreated(), e.getDateUpdated()))
+                .collect(Collectors.toCollection(ArrayList::new));
+        long dtoBytes = usedHeap() - heapBefore;
+
+        RosterSnapshot.Builder builder = RosterSnapshot.builder();
+        employees.forEach(e -> builder.add(e.getRole(), e.getStatus(), e.getPrimarySkill(), e.getSecondarySkill(),
+                RosterSnapshot.epochSecond(e.getDateCreated())));
+        RosterSnapshot large = builder.build();
+        RosterSnapshot.Query query = query(List.of(Dimension.STATUS, Dimension.ROLE, Dimension.PRIMARY_SKILL),
+                List.of(), List.of(), List.of(), Long.MIN_VALUE, Long.MAX_VALUE);
+
+        for (int warmup = 0; warmup < 5; warmup++) {
+            groupDtos(dtos);
+            large.count(query, false);
+            large.count(query, true);
+        }
+        double dtoMillis = time(() -> groupDtos(dtos));
+        double serialMillis = time(() -> large.count(query, false));
+        double parallelMillis = time(() -> large.count(query, true));
+
+        log.info("rows={} dto-list heap={} MB snapshot off-heap={} MB",
+                count, dtoBytes >> 20, large.offHeapBytes() >> 20);
+        log.info("status x role x skill: dto stream={} ms snapshot={} ms snapshot parallel={} ms",
+                String.format("%.1f", dtoMillis), String.format("%.1f", serialMillis),
+                String.format("%.1f", parallelMillis));
+        assertEquals(count, dtos.size());
+    }
+
+    private static RosterSnapshot.Query query(List<Dimension> groupBy, List<EmployeeStatus> statuses, List<String> roles,
+                                              List<String> skills, long createdFrom, long createdTo) {
+        return new RosterSnapshot.Query(groupBy, statuses, roles, skills, createdFrom, createdTo);
+    }
+
+    private static RosterSnapshot generate(int count) {
+        EmployeeDataGenerator generator = new EmployeeDataGenerator(7, LocalDateTime.of(2025, 6, 1, 0, 0));
+        RosterSnapshot.Builder builder = RosterSnapshot.builder();
+        for (int i = 0; i < count; i++) {
+            Employee employee = generator.next();
+            builder.add(employee.getRole(), employee.getStatus(), employee.getPrimarySkill(),
+                    employee.getSecondarySkill(), RosterSnapshot.epochSecond(employee.getDateCreated()));
+        }
+        return builder.build();
+    }
+
+    private static Map<List<String>, Long> groupDtos(List<EmployeeDTO> dtos) {
+        return dtos.stream().collect(Collectors.groupingBy(
+                dto -> List.of(dto.getStatus(), dto.getRole(), dto.getPrimarySkill()), Collectors.counting()));
+    }
+
+    private static double time(Runnable runnable) {
+        int runs = 10;
+        long start = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            runnable.run();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / runs;
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,242 @@
+package com.project.employee_management.service.impl;
+
+import com.project.employee_management.config.EmployeeDataGenerator;
+import com.project.employee_management.entity.Employee;
+import com.project.employee_management.entity.Employee.EmployeeStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class SkillMatchIndexTest {
+
+    private static final long V1 = 1_000;
+    private static final long V2 = 2_000;
+    private static final long V3 = 3_000;
+
+    private SkillMatchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SkillMatchIndex();
+        index.put(1L, V1, "Backend Developer", EmployeeStatus.ACTIVE, "Java", "Kotlin");
+        index.put(2L, V1, "Backend Developer", EmployeeStatus.BENCH, "Kotlin", "Java");
+        index.put(3L, V1, "Frontend Developer", EmployeeStatus.BENCH, "React", "Java");
+        index.put(4L, V1, "Data Engineer", EmployeeStatus.BENCH, "Python", null);
+    }
+
+    @Test
+    void put_IdBeyondMaxId_IsIgnored() {
+        // Act
+        index.put(SkillMatchIndex.MAX_ID + 1, V1, "Backend Developer", EmployeeStatus.BENCH, "Java", null);
+        index.updateStatus(List.of(SkillMatchIndex.MAX_ID + 1), EmployeeStatus.ACTIVE, V2);
+        index.remove(SkillMatchIndex.MAX_ID + 1);
+
+        // Assert
+        assertEquals(4, index.size());
+        assertEquals(3, index.match(List.of("java"), List.of(), List.of(), 10).total());
+    }
+
+    @Test
+    void match_RanksPrimaryAboveSecondaryMatches() {
+        // Act
+        SkillMatchIndex.MatchResult result = index.match(List.of("java"), List.of(), List.of(), 10);
+
+        // Assert
+        assertEquals(3, result.total());
+        assertEquals(List.of(
+                new SkillMatchIndex.Match(1L, 2),
+                new SkillMatchIndex.Match(2L, 1),
+                new SkillMatchIndex.Match(3L, 1)), result.matches());
+    }
+
+    @Test
+    void match_ScoresBothSkillsHighest() {
+        // Act
+        SkillMatchIndex.MatchResult result = index.match(List.of("Java", "Kotlin"), List.of(), List.of(), 10);
+
+        // Assert
+        assertEquals(List.of(
+                new SkillMatchIndex.Match(1L, 3),
+                new SkillMatchIndex.Match(2L, 3),
+                new SkillMatchIndex.Match(3L, 1)), result.matches());
+    }
+
+    @Test
+    void match_AppliesStatusAndRoleFilters() {
+        // Act
+        SkillMatchIndex.MatchResult result = index.match(List.of("Java"),
+                List.of(EmployeeStatus.BENCH), List.of("backend developer"), 10);
+
+        // Assert
+        assertEquals(1, result.total());
+        assertEquals(2L, result.matches().get(0).employeeId());
+    }
+
+    @Test
+    void match_CountsAllMatchesButReturnsAtMostLimit() {
+        // Act
+        SkillMatchIndex.MatchResult result = index.match(List.of("Java"), List.of(), List.of(), 1);
+
+        // Assert
+        assertEquals(3, result.total());
+        assertEquals(1, result.matches().size());
+        assertEquals(1L, result.matches().get(0).employeeId());
+    }
+
+    @Test
+    void match_UnknownSkill_ReturnsNothing() {
+        // Act
+        SkillMatchIndex.MatchResult result = index.match(List.of("COBOL"), List.of(), List.of(), 10);
+
+        // Assert
+        assertEquals(0, result.total());
+        assertTrue(result.matches().isEmpty());
+    }
+
+    @Test
+    void put_ExistingEmployee_ReplacesIndexedValues() {
+        // Act
+        index.put(1L, V2, "Data Engineer", EmployeeStatus.ACTIVE, "Python", null);
+
+        // Assert
+        assertEquals(4, index.size());
+        assertEquals(2, index.match(List.of("Java"), List.of(), List.of(), 10).total());
+        assertEquals(List.of(
+                new SkillMatchIndex.Match(1L, 2),
+                new SkillMatchIndex.Match(4L, 2)), index.match(List.of("Python"), List.of(), List.of(), 10).matches());
+    }
+
+    @Test
+    void updateStatus_MovesEmployeesBetweenStatuses() {
+        // Act
+        index.updateStatus(List.of(1L, 99L), EmployeeStatus.BENCH, V2);
+
+        // Assert
+        assertEquals(3, index.match(List.of("Java"), List.of(EmployeeStatus.BENCH), List.of(), 10).total());
+        assertEquals(0, index.match(List.of("Java"), List.of(EmployeeStatus.ACTIVE), List.of(), 10).total());
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void remove_DropsEmployeeFromAllBitmaps() {
+        // Act
+        index.remove(1L);
+        index.remove(42L);
+
+        // Assert
+        assertEquals(3, index.size());
+        assertEquals(2, index.match(List.of("Java", "Kotlin"), List.of(), List.of(), 10).total());
+        assertEquals(0, index.match(List.of("Java"), List.of(EmployeeStatus.ACTIVE), List.of(), 10).total());
+    }
+
+    @Test
+    void put_OlderVersion_IsIgnored() {
+        // Arrange
+        index.put(1L, V3, "Data Engineer", EmployeeStatus.ACTIVE, "Python", null);
+
+        // Act - the earlier write's callback runs last
+        index.put(1L, V2, "Backend Developer", EmployeeStatus.BENCH, "Java", "Kotlin");
+
+        // Assert
+        assertEquals(0, index.match(List.of("Kotlin"), List.of(), List.of(), 10).matches().stream()
+                .filter(match -> match.employeeId() == 1L).count());
+        assertEquals(1, index.match(List.of("Python"), List.of(EmployeeStatus.ACTIVE), List.of(), 10).total());
+    }
+
+    @Test
+    void updateStatus_OlderVersion_IsIgnored() {
+        // Arrange
+        index.updateStatus(List.of(1L), EmployeeStatus.RESIGNED, V3);
+
+        // Act
+        index.updateStatus(List.of(1L), EmployeeStatus.BENCH, V2);
+
+        // Assert
+        assertEquals(1, index.match(List.of("Java"), List.of(EmployeeStatus.RESIGNED), List.of(), 10).total());
+        assertEquals(0, index.match(List.of("Kotlin"), List.of(EmployeeStatus.BENCH), List.of(), 10).matches().stream()
+                .filter(match -> match.employeeId() == 1L).count());
+    }
+
+    @Test
+    void put_OlderThanStatus_UpdatesFieldsButKeepsNewerStatus() {
+        // Arrange - a status transition accepted after the update was applied first
+        index.updateStatus(List.of(1L), EmployeeStatus.BENCH, V3);
+
+        // Act
+        index.put(1L, V2, "Data Engineer", EmployeeStatus.ACTIVE, "Python", null);
+
+        // Assert
+        SkillMatchIndex.MatchResult result = index.match(List.of("Python"), List.of(EmployeeStatus.BENCH), List.of(), 10);
+        assertEquals(2, result.total());
+        assertEquals(0, index.match(List.of("Java"), List.of(), List.of("Backend Developer"), 10).matches().stream()
+                .filter(match -> match.employeeId() == 1L).count());
+    }
+
+    @Test
+    void updateStatus_BeforePut_IsKeptForTheEmployee() {
+        // Act - the status change commits while the employee is still being loaded
+        index.updateStatus(List.of(5L), EmployeeStatus.RESIGNED, V3);
+        index.put(5L, V2, "QA Engineer", EmployeeStatus.ACTIVE, "Selenium", null);
+
+        // Assert
+        assertEquals(1, index.match(List.of("Selenium"), List.of(EmployeeStatus.RESIGNED), List.of(), 10).total());
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    void remove_LaterPutOrStatusChange_DoesNotResurrectEmployee() {
+        // Act
+        index.remove(1L);
+        index.put(1L, V3, "Backend Developer", EmployeeStatus.ACTIVE, "Java", "Kotlin");
+        index.updateStatus(List.of(1L), EmployeeStatus.BENCH, V3);
+
+        // Assert
+        assertEquals(3, index.size());
+        assertEquals(0, index.match(List.of("Java"), List.of(EmployeeStatus.ACTIVE), List.of(), 10).total());
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmark_MatchLatencyAtOneMillionEmployees() {
+        int count = 1_000_000;
+        EmployeeDataGenerator generator = new EmployeeDataGenerator(42, LocalDateTime.now());
+        SkillMatchIndex large = new SkillMatchIndex();
+        long start = System.nanoTime();
+        for (int id = 1; id <= count; id++) {
+            Employee employee = generator.next();
+            large.put(id, V1, employee.getRole(), employee.getStatus(), employee.getPrimarySkill(),
+                    employee.getSecondarySkill());
+        }
+        long loadMillis = (System.nanoTime() - start) / 1_000_000;
+
+        List<List<String>> skillSets = List.of(List.of("Java"), List.of("Java", "Kotlin"),
+                List.of("Python", "SQL", "Spark"), List.of("React", "TypeScript"));
+        for (int warmup = 0; warmup < 2_000; warmup++) {
+            large.match(skillSets.get(warmup % skillSets.size()), List.of(EmployeeStatus.BENCH), List.of(), 20);
+        }
+
+        int runs = 10_000;
+        long[] micros = new long[runs];
+        long matched = 0;
+        for (int run = 0; run < runs; run++) {
+            long queryStart = System.nanoTime();
+            matched += large.match(skillSets.get(run % skillSets.size()), List.of(EmployeeStatus.BENCH),
+                    List.of(), 20).total();
+            micros[run] = (System.nanoTime() - queryStart) / 1_000;
+        }
+        Arrays.sort(micros);
+
+        log.info("employees={} load={} ms match (BENCH, limit 20): p50={} us p99={} us max={} us",
+                count, loadMillis, micros[runs / 2], micros[runs * 99 / 100], micros[runs - 1]);
+        assertEquals(count, large.size());
+        assertTrue(matched > 0);
+    }
+}
@@ -0,0 +1,145 @@
+package com.project.employee_management.service.impl;
+
+import com.project.employee_management.entity.Employee.EmployeeStatus;
+import com.project.employee_management.service.impl.StatusJournal.Entry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatusJournalTest {
+
+    private static final LocalDateTime ACCEPTED = LocalDateTime.of(2025, 3, 1, 9, 30, 0, 123_456_000);
+
+    @TempDir
+    Path journalDir;
+
+    @Test
+    void recover_ReplaysAppendedTransitions_LastOneWins() {
+        // Arrange
+        StatusJournal journal = new StatusJournal(journalDir);
+        journal.append(Map.of(1L, entry(EmployeeStatus.BENCH), 2L, entry(EmployeeStatus.BENCH)));
+        journal.append(Map.of(1L, entry(EmployeeStatus.ACTIVE)));
+        journal.close();
+
+        // Act
+        Map<Long, Entry> recovered = new StatusJournal(journalDir).recover();
+
+        // Assert
+        assertEquals(2, recovered.size());
+        assertEquals(entry(EmployeeStatus.ACTIVE), recovered.get(1L));
+        assertEquals(entry(EmployeeStatus.BENCH), recovered.get(2L));
+    }
+
+    @Test
+    void recover_UncommittedFlush_IsReplayedBeforeNewerTransitions() {
+        // Arrange - crash between rotate() and commit()
+        StatusJournal journal = new StatusJournal(journalDir);
+        journal.append(Map.of(1L, entry(EmployeeStatus.BENCH), 2L, entry(EmployeeStatus.BENCH)));
+        journal.rotate();
+        journal.append(Map.of(2L, entry(EmployeeStatus.RESIGNED)));
+        journal.close();
+
+        // Act
+        Map<Long, Entry> recovered = new StatusJournal(journalDir).recover();
+
+        // Assert
+        assertEquals(entry(EmployeeStatus.BENCH), recovered.get(1L));
+        assertEquals(entry(EmployeeStatus.RESIGNED), recovered.get(2L));
+        assertFalse(Files.exists(journalDir.resolve("status.journal.flushing")));
+    }
+
+    @Test
+    void recover_CommittedFlush_IsNotReplayed() {
+        // Arrange
+        StatusJournal journal = new StatusJournal(journalDir);
+        journal.append(Map.of(1L, entry(EmployeeStatus.BENCH)));
+        journal.rotate();
+        journal.commit();
+        journal.close();
+
+        // Act
+        Map<Long, Entry> recovered = new StatusJournal(journalDir).recover();
+
+        // Assert
+        assertTrue(recovered.isEmpty());
+    }
+
+    @Test
+    void recover_TornLastLine_IsSkipped() throws IOException {
+        // Arrange
+        StatusJournal journal = new StatusJournal(journalDir);
+        journal.append(Map.of(1L, entry(EmployeeStatus.BENCH)));
+        journal.close();
+        Files.writeString(journalDir.resolve("status.journal"), "2,BENCH,2025-03-01T09:3", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        // Act
+        Map<Long, Entry> recovered = new StatusJournal(journalDir).recover();
+
+        // Assert
+        assertEquals(Map.of(1L, entry(EmployeeStatus.BENCH)), recovered);
+    }
+
+    @Test
+    void sync_ConcurrentAppends_AreAllDurableWhenSyncReturns() throws Exception {
+        // Arrange
+        StatusJournal journal = new StatusJournal(journalDir);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act - each writer appends and syncs outside the journal's lock, as transitionStatus does
+        List<Future<?>> writers = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            long employeeId = id;
+            writers.add(executor.submit(() -> journal.sync(journal.append(Map.of(employeeId, entry(EmployeeStatus.BENCH))))));
+        }
+        for (Future<?> writer : writers) {
+            writer.get();
+        }
+        executor.shutdown();
+
+        // Assert - read back from disk without closing (and so forcing) the journal
+        List<String> lines = Files.readAllLines(journalDir.resolve("status.journal"), StandardCharsets.UTF_8);
+        assertEquals(200, lines.size());
+        journal.close();
+    }
+
+    @Test
+    void sync_AfterRotate_ReturnsWithoutForcingTheClosedFile() {
+        // Arrange
+        StatusJournal journal = new StatusJournal(journalDir);
+        long sequence = journal.append(Map.of(1L, entry(EmployeeStatus.BENCH)));
+        journal.rotate();
+
+        // Act & Assert
+        assertDoesNotThrow(() -> journal.sync(sequence));
+        journal.close();
+    }
+
+    @Test
+    void constructor_DirectoryAlreadyOpen_IsRejected() {
+        // Arrange
+        StatusJournal journal = new StatusJournal(journalDir);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> new StatusJournal(journalDir));
+        journal.close();
+        new StatusJournal(journalDir).close();
+    }
+
+    private static Entry entry(EmployeeStatus status) {
+        return new Entry(status, ACCEPTED);
+    }
+}
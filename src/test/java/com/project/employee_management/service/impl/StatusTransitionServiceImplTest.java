@@ -0,0 +1,151 @@
+package com.project.employee_management.service.impl;
+
+import com.project.employee_management.entity.Employee.EmployeeStatus;
+import com.project.employee_management.entity.EmployeeHistory.ChangeType;
+import com.project.employee_management.repository.EmployeeRepository;
+import com.project.employee_management.service.EmployeeHistoryService;
+import com.project.employee_management.service.SkillMatchService;
+import com.project.employee_management.service.impl.StatusTransitionServiceImpl.WriteMode;
+import com.project.employee_management.tenancy.TenancyProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatusTransitionServiceImplTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private SkillMatchService skillMatchService;
+
+    @Mock
+    private EmployeeHistoryService historyService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path journalDir;
+
+    private StatusTransitionServiceImpl service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void flush_CoalescedTransitions_LastWriteWins() {
+        // Arrange
+        service = service(WriteMode.ASYNC);
+        updatesApplyToEveryRow();
+        service.transitionStatus(List.of(1L, 2L), "BENCH");
+        service.transitionStatus(List.of(1L), "RESIGNED");
+
+        // Act
+        int applied = service.flush();
+
+        // Assert
+        assertEquals(2, applied);
+        verify(employeeRepository).updateStatusByIdIn(eq(EmployeeStatus.RESIGNED), any(), eq(List.of(1L)));
+        verify(employeeRepository).updateStatusByIdIn(eq(EmployeeStatus.BENCH), any(), eq(List.of(2L)));
+        verifyNoMoreInteractions(employeeRepository);
+        assertEquals(0, service.flush());
+    }
+
+    @Test
+    void transitionStatus_Sync_EvictsPendingAsyncTransition() throws IOException {
+        // Arrange - a journaled transition whose recovery flush fails stays pending
+        Files.writeString(journalDir.resolve("status.journal"), "1,BENCH," + LocalDateTime.now().minusMinutes(1) + "\n");
+        when(employeeRepository.updateStatusByIdIn(any(), any(), anyCollection()))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenAnswer(invocation -> invocation.<Collection<Long>>getArgument(2).size());
+        service = service(WriteMode.SYNC);
+        service.recoverJournal();
+
+        // Act
+        service.transitionStatus(List.of(1L), "ACTIVE");
+        int flushed = service.flush();
+
+        // Assert
+        assertEquals(0, flushed);
+        verify(employeeRepository, times(1)).updateStatusByIdIn(eq(EmployeeStatus.BENCH), any(), anyCollection());
+        verify(employeeRepository).updateStatusByIdIn(eq(EmployeeStatus.ACTIVE), any(), eq(List.of(1L)));
+    }
+
+    @Test
+    void flush_FailedFlush_RequeuesWithoutOverwritingNewerTransitions() {
+        // Arrange - employee 1 is transitioned again while the first flush is running, then that flush fails
+        service = service(WriteMode.ASYNC);
+        service.transitionStatus(List.of(1L, 2L), "BENCH");
+        when(employeeRepository.updateStatusByIdIn(any(), any(), anyCollection()))
+                .thenAnswer(invocation -> {
+                    service.transitionStatus(List.of(1L), "RESIGNED");
+                    throw new IllegalStateException("deadlock");
+                })
+                .thenAnswer(invocation -> invocation.<Collection<Long>>getArgument(2).size());
+        assertEquals(0, service.flush());
+
+        // Act
+        int applied = service.flush();
+
+        // Assert
+        assertEquals(2, applied);
+        verify(employeeRepository).updateStatusByIdIn(eq(EmployeeStatus.BENCH), any(), eq(List.of(1L, 2L)));
+        verify(employeeRepository).updateStatusByIdIn(eq(EmployeeStatus.RESIGNED), any(), eq(List.of(1L)));
+        verify(employeeRepository).updateStatusByIdIn(eq(EmployeeStatus.BENCH), any(), eq(List.of(2L)));
+    }
+
+    @Test
+    void flush_EmployeeUpdatedAfterAcceptance_IsSkipped() {
+        // Arrange - a PUT commits for employee 1 after the PATCH was acknowledged, so the guarded UPDATE skips it
+        service = service(WriteMode.ASYNC);
+        LocalDateTime before = LocalDateTime.now();
+        service.transitionStatus(List.of(1L, 2L), "BENCH");
+        when(employeeRepository.updateStatusByIdIn(eq(EmployeeStatus.BENCH), any(), anyCollection())).thenReturn(1);
+        when(employeeRepository.findIdsByIdInAndDateUpdated(anyCollection(), any())).thenReturn(List.of(2L));
+
+        // Act
+        int applied = service.flush();
+
+        // Assert
+        ArgumentCaptor<LocalDateTime> acceptedAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(employeeRepository).updateStatusByIdIn(eq(EmployeeStatus.BENCH), acceptedAt.capture(), eq(List.of(1L, 2L)));
+        assertFalse(acceptedAt.getValue().isBefore(before.minusNanos(1_000)));
+        assertEquals(1, applied);
+        verify(historyService).recordSnapshot(List.of(2L), ChangeType.STATUS_CHANGE, acceptedAt.getValue());
+        verify(skillMatchService).statusChanged(List.of(2L), EmployeeStatus.BENCH, acceptedAt.getValue());
+    }
+
+    private StatusTransitionServiceImpl service(WriteMode mode) {
+        return new StatusTransitionServiceImpl(employeeRepository, skillMatchService, historyService,
+                transactionManager, new TenancyProperties(), mode, 500, journalDir.toString());
+    }
+
+    private void updatesApplyToEveryRow() {
+        when(employeeRepository.updateStatusByIdIn(any(), any(), anyCollection()))
+                .thenAnswer(invocation -> invocation.<Collection<Long>>getArgument(2).size());
+    }
+}
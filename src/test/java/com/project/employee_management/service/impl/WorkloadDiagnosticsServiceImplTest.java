@@ -0,0 +1,114 @@
+package com.project.employee_management.service.impl;
+
+import com.project.employee_management.dto.WorkloadLevelResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkloadDiagnosticsServiceImplTest {
+
+    private static final String POOL_SIZE = "spring.datasource.hikari.maximum-pool-size";
+    private static final String BATCH_SIZE = "spring.jpa.properties.hibernate.jdbc.batch_size";
+    private static final String BATCH_FETCH_SIZE = "spring.jpa.properties.hibernate.default_batch_fetch_size";
+
+    private final List<String> notes = new ArrayList<>();
+
+    @Test
+    void recommend_PoolSizeIsTheKneeOfTheThroughputCurve() {
+        // Arrange - throughput flattens after 4 callers
+        List<WorkloadLevelResult> levels = List.of(
+                level(1, 1_000, 1, 0), level(2, 1_900, 2, 0), level(4, 3_600, 4, 0),
+                level(8, 3_900, 8, 0), level(16, 3_950, 10, 6));
+
+        // Act
+        Map<String, String> recommendations = WorkloadDiagnosticsServiceImpl.recommend(levels, 0.8, 10, false, notes);
+
+        // Assert
+        assertEquals("4", recommendations.get(POOL_SIZE));
+        assertEquals("4", recommendations.get("spring.datasource.hikari.minimum-idle"));
+        assertTrue(notes.stream().anyMatch(note -> note.startsWith("Pool saturated at concurrency 16")));
+    }
+
+    @Test
+    void recommend_PoolSizeCoversPeakConnectionsAtTheKnee() {
+        // Arrange - each caller held more than one connection at a time
+        List<WorkloadLevelResult> levels = List.of(level(2, 1_000, 2, 0), level(4, 2_000, 7, 0), level(8, 2_050, 8, 0));
+
+        // Act
+        Map<String, String> recommendations = WorkloadDiagnosticsServiceImpl.recommend(levels, 0.8, 10, false, notes);
+
+        // Assert
+        assertEquals("7", recommendations.get(POOL_SIZE));
+    }
+
+    @Test
+    void recommend_SingleCaller_KeepsAtLeastTwoConnections() {
+        // Act
+        Map<String, String> recommendations = WorkloadDiagnosticsServiceImpl.recommend(
+                List.of(level(1, 500, 1, 0)), 0.8, 10, false, notes);
+
+        // Assert
+        assertEquals("2", recommendations.get(POOL_SIZE));
+        assertTrue(notes.stream().noneMatch(note -> note.startsWith("Pool saturated")));
+    }
+
+    @Test
+    void recommend_BatchSizesFollowMeasuredRepeats() {
+        // Arrange
+        List<WorkloadLevelResult> levels = List.of(
+                withStatements(level(4, 1_000, 4, 0), 3, 12),
+                withStatements(level(8, 1_100, 8, 0), 200, 30));
+
+        // Act
+        Map<String, String> recommendations = WorkloadDiagnosticsServiceImpl.recommend(levels, 0.5, 10, false, notes);
+
+        // Assert
+        assertEquals("30", recommendations.get(BATCH_SIZE));
+        assertEquals(String.valueOf(WorkloadDiagnosticsServiceImpl.MAX_BATCH_FETCH_SIZE),
+                recommendations.get(BATCH_FETCH_SIZE));
+    }
+
+    @Test
+    void recommend_NoRepeatedStatements_LeavesBatchingAlone() {
+        // Arrange - one lookup per read, four distinct statements per write
+        List<WorkloadLevelResult> levels = List.of(withStatements(level(4, 1_000, 4, 0), 1, 1));
+
+        // Act
+        Map<String, String> recommendations = WorkloadDiagnosticsServiceImpl.recommend(levels, 0.8, 10, false, notes);
+
+        // Assert
+        assertFalse(recommendations.containsKey(BATCH_SIZE));
+        assertFalse(recommendations.containsKey(BATCH_FETCH_SIZE));
+        assertFalse(recommendations.containsKey("spring.jpa.open-in-view"));
+    }
+
+    @Test
+    void recommend_NoStatementsCounted_DerivesNoBatchingAndSaysWhy() {
+        // Act
+        Map<String, String> recommendations = WorkloadDiagnosticsServiceImpl.recommend(
+                List.of(level(4, 1_000, 4, 0)), 0.8, 10, true, notes);
+
+        // Assert
+        assertFalse(recommendations.containsKey(BATCH_SIZE));
+        assertFalse(recommendations.containsKey(BATCH_FETCH_SIZE));
+        assertEquals("false", recommendations.get("spring.jpa.open-in-view"));
+        assertTrue(notes.stream().anyMatch(note -> note.startsWith("No SQL statements were counted")));
+    }
+
+    private static WorkloadLevelResult level(int concurrency, double throughput, int peakActive, int peakPending) {
+        return new WorkloadLevelResult(concurrency, throughput, 1.0, 2.0, 3.0, peakActive, peakPending, 0,
+                0, 0, 0, 0);
+    }
+
+    private static WorkloadLevelResult withStatements(WorkloadLevelResult level, int readRepeats, int writeRepeats) {
+        level.setStatementsPerRead(readRepeats);
+        level.setStatementsPerWrite(writeRepeats + 3);
+        level.setMaxRepeatsPerRead(readRepeats);
+        level.setMaxRepeatsPerWrite(writeRepeats);
+        return level;
+    }
+}
@@ -0,0 +1,133 @@
+package com.project.employee_management.tenancy;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class TenantRoutingDataSourceTest {
+
+    private static final int POOL_SIZE = 4;
+
+    private TenantRoutingDataSource routingDataSource;
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+        if (routingDataSource != null) {
+            routingDataSource.destroy();
+        }
+    }
+
+    @Test
+    void getConnection_RoutesToShardOfCurrentTenant() {
+        // Arrange
+        routingDataSource = createShards(List.of(TenantContext.DEFAULT_TENANT, "retail", "finance"), POOL_SIZE);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(routingDataSource);
+        TenantContext.runAs("retail", () -> jdbcTemplate.update("INSERT INTO employees (employee_id) VALUES ('R1')"));
+        TenantContext.runAs("retail", () -> jdbcTemplate.update("INSERT INTO employees (employee_id) VALUES ('R2')"));
+        TenantContext.runAs("finance", () -> jdbcTemplate.update("INSERT INTO employees (employee_id) VALUES ('F1')"));
+
+        // Act & Assert
+        assertEquals(2, TenantContext.callAs("retail", () -> count(jdbcTemplate)));
+        assertEquals(1, TenantContext.callAs("finance", () -> count(jdbcTemplate)));
+        assertEquals(0, count(jdbcTemplate));
+    }
+
+    @Test
+    void getConnection_UnknownTenant_ThrowsException() {
+        // Arrange
+        routingDataSource = createShards(List.of(TenantContext.DEFAULT_TENANT), POOL_SIZE);
+        TenantContext.setTenant("unknown");
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> routingDataSource.getConnection());
+    }
+
+    @Test
+    void constructor_WithoutDefaultShard_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> new TenantRoutingDataSource(Map.of()));
+    }
+
+    /**
+     * Run with {@code ./mvnw test -Dtest=TenantRoutingDataSourceTest -Dbenchmark=true}. The
+     * connections are split across the shards, so every run has the same total and only the
+     * number of databases they are spread over changes.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmark_ThroughputScalesWithShardCount() throws Exception {
+        int threads = 16;
+        int operationsPerThread = 5_000;
+        int totalConnections = 8;
+        for (int shardCount : new int[]{1, 2, 4, 8}) {
+            List<String> tenants = new ArrayList<>();
+            tenants.add(TenantContext.DEFAULT_TENANT);
+            for (int i = 1; i < shardCount; i++) {
+                tenants.add("tenant" + i);
+            }
+            routingDataSource = createShards(tenants, totalConnections / shardCount);
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(routingDataSource);
+
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                String tenant = tenants.get(t % shardCount);
+                futures.add(executor.submit(() -> TenantContext.runAs(tenant, () -> {
+                    for (int i = 0; i < operationsPerThread; i++) {
+                        jdbcTemplate.update("INSERT INTO employees (employee_id) VALUES (?)", UUID.randomUUID().toString());
+                        count(jdbcTemplate);
+                    }
+                })));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+
+            log.info("shards={} connections={} threads={} ops/s={}", shardCount, totalConnections, threads,
+                    Math.round(threads * operationsPerThread * 2 / seconds));
+            routingDataSource.destroy();
+            routingDataSource = null;
+        }
+    }
+
+    private static TenantRoutingDataSource createShards(List<String> tenants, int poolSizePerShard) {
+        Map<String, DataSource> shards = new LinkedHashMap<>();
+        for (String tenant : tenants) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl("jdbc:h2:mem:shard_" + tenant + "_" + UUID.randomUUID());
+            dataSource.setUsername("sa");
+            dataSource.setPassword("");
+            dataSource.setMaximumPoolSize(poolSizePerShard);
+            new JdbcTemplate(dataSource).execute(
+                    "CREATE TABLE employees (id BIGINT AUTO_INCREMENT PRIMARY KEY, employee_id VARCHAR(64) NOT NULL)");
+            shards.put(tenant, dataSource);
+        }
+        return new TenantRoutingDataSource(shards);
+    }
+
+    private static int count(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employees", Integer.class);
+    }
+}